@@ -0,0 +1,35 @@
+package com.yeahyak.backend.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 버전 관리되는 스키마 변경(db/migration)을 적용하는 Flyway 설정입니다.
+ * <p>
+ * 테이블은 Hibernate 스키마 자동 생성으로 만들어지므로, 마이그레이션은 JPA 초기화 전에 실행하지 않고
+ * {@link SchemaMigrationInitializer}에서 테이블이 만들어진 뒤에 실행합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FlywayConfig {
+
+  /**
+   * 기본 동작(JPA 초기화 전 실행)을 끄기 위한 전략입니다.
+   */
+  @Bean
+  public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+    return flyway -> {
+    };
+  }
+
+  /**
+   * 이력 테이블이 없는 기존 데이터베이스는 버전 0에서 시작한 것으로 보고 V1부터 적용합니다.
+   */
+  @Bean
+  public FlywayConfigurationCustomizer baselineCustomizer() {
+    return configuration -> configuration
+        .baselineOnMigrate(true)
+        .baselineVersion("0");
+  }
+}
@@ -0,0 +1,44 @@
+package com.yeahyak.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA/Hibernate 관련 설정을 담당하는 Configuration 클래스입니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JpaConfig {
+
+  /**
+   * 발주 품목, 재고/잔액 거래 내역처럼 여러 행을 한 번에 저장하는 경우 INSERT/UPDATE가 JDBC 배치로 전송되도록 설정합니다.
+   * application.properties에 값이 있으면 그 값을 우선합니다.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+    return props -> {
+      props.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+      props.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      props.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+
+  /**
+   * MySQL 드라이버가 배치 INSERT를 multi-row INSERT 한 문장으로 재작성하도록 설정합니다.
+   */
+  @Bean
+  public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+          dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+        return bean;
+      }
+    };
+  }
+}
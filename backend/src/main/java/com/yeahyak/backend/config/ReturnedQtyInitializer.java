@@ -0,0 +1,39 @@
+package com.yeahyak.backend.config;
+
+import com.yeahyak.backend.service.ReturnService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * returned-qty.repair-on-startup=true로 기동한 경우에만 발주 품목의 누적 반품 수량을 실제 반품 내역에 맞춥니다.
+ * <p>
+ * returned_qty 컬럼이 기본값 0으로 추가된 직후 기존 반품 내역을 채우기 위한 일회성 보정입니다. 평소에는 꺼 두고, 보정이 필요하면
+ * 본사 API(POST /api/returns/returned-qty/drift/repair)로 실행합니다.
+ */
+@Slf4j
+@Component
+public class ReturnedQtyInitializer implements SmartInitializingSingleton {
+
+  private final ReturnService returnService;
+  private final boolean repairOnStartup;
+
+  public ReturnedQtyInitializer(
+      ReturnService returnService,
+      @Value("${returned-qty.repair-on-startup:false}") boolean repairOnStartup
+  ) {
+    this.returnService = returnService;
+    this.repairOnStartup = repairOnStartup;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (!repairOnStartup) {
+      return;
+    }
+    int drift = returnService.checkReturnedQtyDrift(true).size();
+    log.info("[ReturnedQtyInitializer] 기동 시 누적 반품 수량 보정 완료 (drift={}). "
+        + "returned-qty.repair-on-startup을 다시 false로 설정하세요.", drift);
+  }
+}
@@ -0,0 +1,13 @@
+package com.yeahyak.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 원장 검사처럼 주기적으로 실행되는 작업을 활성화하는 Configuration 클래스입니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+
+}
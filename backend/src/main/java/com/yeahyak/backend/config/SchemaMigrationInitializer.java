@@ -0,0 +1,32 @@
+package com.yeahyak.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate가 테이블을 만든 뒤 db/migration의 스키마 변경을 적용합니다. 이미 적용된 버전은 건너뜁니다.
+ * spring.flyway.enabled=false이면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationInitializer implements SmartInitializingSingleton {
+
+  private final ObjectProvider<Flyway> flyway;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    flyway.ifAvailable(this::migrate);
+  }
+
+  private void migrate(Flyway flyway) {
+    MigrateResult result = flyway.migrate();
+    log.info("[SchemaMigrationInitializer] 스키마 마이그레이션 완료 (applied={}, version={})",
+        result.migrationsExecuted, result.targetSchemaVersion);
+  }
+}
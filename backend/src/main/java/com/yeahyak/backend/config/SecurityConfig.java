@@ -1,5 +1,6 @@
 package com.yeahyak.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 
 import org.springframework.context.annotation.Bean;
@@ -91,7 +92,8 @@ public class SecurityConfig {
         "http://4.230.25.25"
     ));
     config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With"));
+    config.setAllowedHeaders(
+        List.of("Authorization", "Content-Type", "X-Requested-With", "Idempotency-Key"));
     config.setExposedHeaders(List.of("Authorization"));
     config.setAllowCredentials(true);
 
@@ -110,6 +112,8 @@ public class SecurityConfig {
         .httpBasic(basic -> basic.disable())
         .authorizeHttpRequests(auth -> auth
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+            // SSE 등 비동기 요청의 재디스패치는 JWT 필터를 다시 거치지 않습니다. 최초 요청에서 이미 인증되었습니다.
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/api/auth/admin/signup",
                 "/api/auth/pharmacy/signup",
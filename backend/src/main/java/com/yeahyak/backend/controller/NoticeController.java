@@ -1,9 +1,12 @@
 package com.yeahyak.backend.controller;
 
 import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -91,23 +95,40 @@ public class NoticeController {
   }
 
   /**
-   * 최신 공지사항 5개를 조회합니다.
+   * 최신 공지사항 5개를 조회합니다. If-None-Match가 현재 ETag와 같으면 목록을 만들지 않고 304를 반환합니다.
    */
   @GetMapping("/latest")
-  public ResponseEntity<ApiResponse<List<NoticeListResponse>>> getLatest() {
+  public ResponseEntity<ApiResponse<List<NoticeListResponse>>> getLatest(
+      WebRequest webRequest
+  ) {
+    if (webRequest.checkNotModified(noticeService.getLatestNoticesETag())) {
+      return null; // 304 Not Modified
+    }
     List<NoticeListResponse> list = noticeService.getLatestNotices();
-    return ResponseEntity.ok(ApiResponse.ok(list)); // 200 OK
+    // 보안 필터 기본값(no-store) 대신 no-cache로 내려 클라이언트가 저장해 두고 ETag로 재검증하도록 합니다.
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .body(ApiResponse.ok(list)); // 200 OK
   }
 
   /**
-   * 공지사항 상세를 조회합니다.
+   * 공지사항 상세를 조회합니다. 공지사항이 수정되지 않았으면(If-None-Match/If-Modified-Since) 상세를 읽지 않고 304를 반환합니다.
    */
   @GetMapping("/{noticeId}")
   public ResponseEntity<ApiResponse<NoticeDetailResponse>> getDetail(
-      @PathVariable Long noticeId
+      @PathVariable Long noticeId,
+      WebRequest webRequest
   ) {
+    LocalDateTime lastModified = noticeService.getNoticeLastModified(noticeId);
+    if (lastModified != null) {
+      long lastModifiedMillis = Timestamp.valueOf(lastModified).getTime();
+      if (webRequest.checkNotModified("notice-" + noticeId + "-" + lastModifiedMillis,
+          lastModifiedMillis)) {
+        return null; // 304 Not Modified
+      }
+    }
     NoticeDetailResponse detail = noticeService.getNoticeById(noticeId);
-    return ResponseEntity.ok(ApiResponse.ok(detail)); // 200 OK
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .body(ApiResponse.ok(detail)); // 200 OK
   }
 
   /**
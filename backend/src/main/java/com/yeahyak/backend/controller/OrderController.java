@@ -1,6 +1,9 @@
 package com.yeahyak.backend.controller;
 
 import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.BulkUpdateResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.OrderBulkUpdateRequest;
 import com.yeahyak.backend.dto.OrderCreateRequest;
 import com.yeahyak.backend.dto.OrderCreateResponse;
 import com.yeahyak.backend.dto.OrderDetailResponse;
@@ -15,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -46,9 +51,10 @@ public class OrderController {
    */
   @PostMapping
   public ResponseEntity<ApiResponse<OrderCreateResponse>> createOrder(
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
       @RequestBody OrderCreateRequest request
   ) {
-    OrderCreateResponse res = orderService.createOrder(request);
+    OrderCreateResponse res = orderService.createOrder(request, idempotencyKey);
     URI location = URI.create("/api/orders/" + res.getOrderId());
     return ResponseEntity
         .created(location)
@@ -57,6 +63,7 @@ public class OrderController {
 
   /**
    * (본사) 발주 목록을 조회합니다. (상태/지역/기간 + 페이지네이션)
+   * cursor 파라미터를 넘기면(첫 페이지는 빈 값) 전체 건수 없이 커서 기반으로 조회합니다.
    */
   @GetMapping("/hq")
   public ResponseEntity<ApiResponse<List<OrderListResponse>>> getOrdersForHq(
@@ -65,8 +72,15 @@ public class OrderController {
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(required = false) String cursor
   ) {
+    if (cursor != null) {
+      Slice<OrderListResponse> slice = orderService.getOrdersByCursor(
+          status, region, start, end, Cursor.decode(cursor), size);
+      return ResponseEntity.ok(ApiResponse.withCursor(slice,
+          r -> new Cursor(r.getCreatedAt(), r.getOrderId()))); // 200 OK
+    }
     Page<OrderListResponse> result = orderService.getOrders(status, region, start, end, page, size);
     return ResponseEntity.ok(ApiResponse.withPagination(result)); // 200 OK
   }
@@ -109,6 +123,17 @@ public class OrderController {
     return ResponseEntity.noContent().build(); // 204 No Content
   }
 
+  /**
+   * (본사) 여러 발주의 상태를 한 번에 변경합니다. 발주별 처리 결과를 함께 반환합니다.
+   */
+  @PatchMapping("/status")
+  public ResponseEntity<ApiResponse<BulkUpdateResponse>> updateOrderStatuses(
+      @RequestBody @Valid OrderBulkUpdateRequest request
+  ) {
+    BulkUpdateResponse res = orderService.updateOrderStatuses(request);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
   /**
    * 발주를 삭제합니다.
    */
@@ -1,7 +1,10 @@
 package com.yeahyak.backend.controller;
 
 import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.BalanceAsOfResponse;
 import com.yeahyak.backend.dto.BalanceTxListResponse;
+import com.yeahyak.backend.dto.CreditLimitUpdateRequest;
+import com.yeahyak.backend.dto.Cursor;
 import com.yeahyak.backend.dto.PharmacyListResponse;
 import com.yeahyak.backend.dto.SettlementRequest;
 import com.yeahyak.backend.dto.SettlementResponse;
@@ -9,19 +12,25 @@ import com.yeahyak.backend.entity.enums.BalanceTxType;
 import com.yeahyak.backend.entity.enums.Region;
 import com.yeahyak.backend.service.BalanceTxService;
 import com.yeahyak.backend.service.PharmacyService;
+import com.yeahyak.backend.service.SnapshotService;
+import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,6 +46,7 @@ public class PharmacyController {
 
   private final PharmacyService pharmacyService;
   private final BalanceTxService balanceTxService;
+  private final SnapshotService snapshotService;
 
   /**
    * 약국 목록을 조회합니다. (미정산여부/지역/키워드 + 페이지네이션)
@@ -56,6 +66,7 @@ public class PharmacyController {
 
   /**
    * 특정 약국의 거래 내역을 조회합니다. (거래유형/기간 + 페이지네이션)
+   * cursor 파라미터를 넘기면(첫 페이지는 빈 값) 전체 건수 없이 커서 기반으로 조회합니다.
    */
   @GetMapping("/{pharmacyId}/balance-txs")
   public ResponseEntity<ApiResponse<List<BalanceTxListResponse>>> getBalanceTxsByPharmacy(
@@ -64,13 +75,55 @@ public class PharmacyController {
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(required = false) String cursor
   ) {
+    if (cursor != null) {
+      Slice<BalanceTxListResponse> slice = balanceTxService.getBalanceTxsByCursor(
+          pharmacyId, type, start, end, Cursor.decode(cursor), size);
+      return ResponseEntity.ok(ApiResponse.withCursor(slice,
+          b -> new Cursor(b.getCreatedAt(), b.getBalanceTxId()))); // 200 OK
+    }
     Page<BalanceTxListResponse> result = balanceTxService.getBalanceTxs(
         pharmacyId, type, start, end, page, size);
     return ResponseEntity.ok(ApiResponse.withPagination(result)); // 200 OK
   }
 
+  /**
+   * 모든 약국의 특정 날짜 기준 미정산 잔액을 조회합니다. (월말 마감 등)
+   */
+  @GetMapping("/balance-as-of")
+  public ResponseEntity<ApiResponse<List<BalanceAsOfResponse>>> getBalancesAsOf(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+  ) {
+    List<BalanceAsOfResponse> res = snapshotService.getBalancesAsOf(date);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * 특정 약국의 특정 날짜 기준 미정산 잔액을 조회합니다.
+   */
+  @GetMapping("/{pharmacyId}/balance-as-of")
+  public ResponseEntity<ApiResponse<BalanceAsOfResponse>> getBalanceAsOf(
+      @PathVariable Long pharmacyId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+  ) {
+    BalanceAsOfResponse res = snapshotService.getBalanceAsOf(pharmacyId, date);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * 특정 약국의 외상 한도를 변경합니다.
+   */
+  @PatchMapping("/{pharmacyId}/credit-limit")
+  public ResponseEntity<Void> updateCreditLimit(
+      @PathVariable Long pharmacyId,
+      @RequestBody @Valid CreditLimitUpdateRequest request
+  ) {
+    pharmacyService.updateCreditLimit(pharmacyId, request);
+    return ResponseEntity.noContent().build(); // 204 No Content
+  }
+
   /**
    * 특정 약국의 정산을 생성합니다.
    */
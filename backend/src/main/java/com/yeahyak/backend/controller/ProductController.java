@@ -1,16 +1,25 @@
 package com.yeahyak.backend.controller;
 
 import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.CacheStatsResponse;
 import com.yeahyak.backend.dto.ProductCreateRequest;
 import com.yeahyak.backend.dto.ProductCreateResponse;
 import com.yeahyak.backend.dto.ProductDetailResponse;
+import com.yeahyak.backend.dto.ProductImportResponse;
 import com.yeahyak.backend.dto.ProductListResponse;
 import com.yeahyak.backend.dto.ProductUpdateRequest;
+import com.yeahyak.backend.dto.StockAsOfResponse;
 import com.yeahyak.backend.entity.enums.MainCategory;
 import com.yeahyak.backend.entity.enums.SubCategory;
+import com.yeahyak.backend.service.ProductCatalogCache;
+import com.yeahyak.backend.service.ProductImportService;
 import com.yeahyak.backend.service.ProductService;
+import com.yeahyak.backend.service.SnapshotService;
+import com.yeahyak.backend.service.StockAlertService;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
@@ -18,6 +27,9 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,9 +40,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 제품 관련 API를 처리하는 컨트롤러입니다.
@@ -40,7 +55,20 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ProductController {
 
+  /**
+   * 카테고리 맵은 enum으로 정해지므로, 배포마다 한 번만 계산합니다.
+   */
+  private static final String CATEGORY_ETAG = "categories-" + Integer.toHexString(
+      Arrays.stream(SubCategory.values())
+          .map(subCategory -> subCategory.getMainCategory() + "/" + subCategory.name())
+          .collect(Collectors.joining(","))
+          .hashCode());
+
   private final ProductService productService;
+  private final SnapshotService snapshotService;
+  private final ProductCatalogCache productCatalogCache;
+  private final ProductImportService productImportService;
+  private final StockAlertService stockAlertService;
 
   /**
    * 제품을 생성합니다.
@@ -54,6 +82,20 @@ public class ProductController {
     return ResponseEntity.created(location).body(ApiResponse.ok(res)); // 201 Created
   }
 
+  /**
+   * CSV(text/csv) 또는 JSON Lines(application/x-ndjson) 파일로 제품을 일괄 등록/수정합니다. 보험코드가 같은 제품이 있으면 기준
+   * 정보를 수정하고, 없으면 새로 등록한 뒤 입력한 수량만큼 입고 처리합니다. 요청 본문을 그대로 스트리밍하므로 파일 크기와 관계없이 처리할 수
+   * 있으며, 실패한 행은 행 번호와 사유를 결과에 담습니다.
+   */
+  @PostMapping(path = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body
+  ) {
+    ProductImportResponse res = productImportService.importProducts(body, contentType);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
   /**
    * 제품 목록을 조회합니다. (카테고리/키워드/재고임계값 + 페이지네이션)
    */
@@ -73,14 +115,46 @@ public class ProductController {
   }
 
   /**
-   * 제품 상세를 조회합니다.
+   * 제품 상세를 조회합니다. If-None-Match가 현재 ETag와 같으면 상세를 만들지 않고 304를 반환합니다.
    */
   @GetMapping("/{productId}")
   public ResponseEntity<ApiResponse<ProductDetailResponse>> getProductById(
-      @PathVariable Long productId
+      @PathVariable Long productId,
+      WebRequest webRequest
   ) {
+    String eTag = productService.getProductETag(productId);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null; // 304 Not Modified
+    }
     ProductDetailResponse detail = productService.getProductById(productId);
-    return ResponseEntity.ok(ApiResponse.ok(detail)); // 200 OK
+    // 보안 필터 기본값(no-store) 대신 no-cache로 내려 클라이언트가 저장해 두고 ETag로 재검증하도록 합니다. ETag는 본문과 같은 조회에서
+    // 다시 만들어, 확인 이후 바뀐 값이 이전 ETag와 함께 저장되지 않도록 합니다.
+    return ResponseEntity.ok().eTag(productService.getProductETag(detail))
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResponse.ok(detail)); // 200 OK
+  }
+
+  /**
+   * 모든 제품의 특정 날짜 기준 재고를 조회합니다. (월말 마감 등)
+   */
+  @GetMapping("/stock-as-of")
+  public ResponseEntity<ApiResponse<List<StockAsOfResponse>>> getStocksAsOf(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+  ) {
+    List<StockAsOfResponse> res = snapshotService.getStocksAsOf(date);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * 특정 제품의 특정 날짜 기준 재고를 조회합니다.
+   */
+  @GetMapping("/{productId}/stock-as-of")
+  public ResponseEntity<ApiResponse<StockAsOfResponse>> getStockAsOf(
+      @PathVariable Long productId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+  ) {
+    StockAsOfResponse res = snapshotService.getStockAsOf(productId, date);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
   }
 
   /**
@@ -110,7 +184,12 @@ public class ProductController {
    * 카테고리 맵을 조회합니다.
    */
   @GetMapping("/categories")
-  public ResponseEntity<ApiResponse<Map<MainCategory, List<SubCategory>>>> getCategoryMap() {
+  public ResponseEntity<ApiResponse<Map<MainCategory, List<SubCategory>>>> getCategoryMap(
+      WebRequest webRequest
+  ) {
+    if (webRequest.checkNotModified(CATEGORY_ETAG)) {
+      return null; // 304 Not Modified
+    }
     Map<MainCategory, List<SubCategory>> map =
         Arrays.stream(SubCategory.values())
             .collect(Collectors
@@ -118,6 +197,23 @@ public class ProductController {
                     () -> new EnumMap<>(MainCategory.class),
                     Collectors.toList()
                 ));
-    return ResponseEntity.ok(ApiResponse.ok(map)); // 200 OK
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .body(ApiResponse.ok(map)); // 200 OK
+  }
+
+  /**
+   * (본사) 재고가 재주문 기준 수량 이하로 떨어지거나 다시 넘어선 제품을 실시간으로 받습니다. (Server-Sent Events)
+   */
+  @GetMapping(path = "/stock-alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeStockAlerts() {
+    return stockAlertService.subscribe();
+  }
+
+  /**
+   * (본사) 제품 기준 정보 캐시의 크기와 적중률을 조회합니다.
+   */
+  @GetMapping("/catalog-cache/stats")
+  public ResponseEntity<ApiResponse<CacheStatsResponse>> getCatalogCacheStats() {
+    return ResponseEntity.ok(ApiResponse.ok(productCatalogCache.getStats())); // 200 OK
   }
 }
@@ -0,0 +1,63 @@
+package com.yeahyak.backend.controller;
+
+import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.ReconciliationJobResponse;
+import com.yeahyak.backend.dto.ReconciliationReport;
+import com.yeahyak.backend.service.LedgerReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 잔액/재고 원장 검사 관련 API를 처리하는 컨트롤러입니다.
+ */
+@RestController
+@RequestMapping("/api/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+  private final LedgerReconciliationService reconciliationService;
+
+  /**
+   * (본사) 마지막 원장 검사 작업의 상태와 결과를 조회합니다.
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<ReconciliationJobResponse>> getLastJob() {
+    ReconciliationJobResponse res = reconciliationService.getLastJob();
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * (본사) 잔액/재고 거래 내역과 현재 잔액/재고가 어긋난 곳을 찾는 검사 작업을 시작합니다.
+   */
+  @PostMapping
+  public ResponseEntity<ApiResponse<ReconciliationJobResponse>> checkLedgers() {
+    ReconciliationJobResponse res = reconciliationService.startJob(false);
+    return ResponseEntity.accepted().body(ApiResponse.ok(res)); // 202 Accepted
+  }
+
+  /**
+   * (본사) 어긋난 잔액/재고를 마지막 거래 내역의 잔량에 맞게 보정하는 작업을 시작합니다.
+   */
+  @PostMapping("/repair")
+  public ResponseEntity<ApiResponse<ReconciliationJobResponse>> repairLedgers() {
+    ReconciliationJobResponse res = reconciliationService.startJob(true);
+    return ResponseEntity.accepted().body(ApiResponse.ok(res)); // 202 Accepted
+  }
+
+  /**
+   * (본사) 가맹점(BALANCE) 또는 제품(STOCK) 하나의 원장을 바로 검사합니다.
+   */
+  @GetMapping("/{ledger}/{entityId}")
+  public ResponseEntity<ApiResponse<ReconciliationReport>> checkEntity(
+      @PathVariable String ledger,
+      @PathVariable Long entityId
+  ) {
+    ReconciliationReport res = reconciliationService.reconcileEntity(ledger, entityId);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+}
@@ -1,11 +1,15 @@
 package com.yeahyak.backend.controller;
 
 import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.BulkUpdateResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.ReturnBulkCompleteRequest;
 import com.yeahyak.backend.dto.ReturnCreateRequest;
 import com.yeahyak.backend.dto.ReturnCreateResponse;
 import com.yeahyak.backend.dto.ReturnDetailResponse;
 import com.yeahyak.backend.dto.ReturnListResponse;
 import com.yeahyak.backend.dto.ReturnUpdateRequest;
+import com.yeahyak.backend.dto.ReturnedQtyDriftResponse;
 import com.yeahyak.backend.entity.enums.Region;
 import com.yeahyak.backend.entity.enums.ReturnStatus;
 import com.yeahyak.backend.service.ReturnService;
@@ -15,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +31,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -46,9 +52,10 @@ public class ReturnController {
    */
   @PostMapping
   public ResponseEntity<ApiResponse<ReturnCreateResponse>> createReturn(
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
       @RequestBody ReturnCreateRequest request
   ) {
-    ReturnCreateResponse res = returnService.createReturn(request);
+    ReturnCreateResponse res = returnService.createReturn(request, idempotencyKey);
     URI location = URI.create("/api/returns/" + res.getReturnId());
     return ResponseEntity
         .created(location)
@@ -57,6 +64,7 @@ public class ReturnController {
 
   /**
    * (본사) 반품 목록을 조회합니다.
+   * cursor 파라미터를 넘기면(첫 페이지는 빈 값) 전체 건수 없이 커서 기반으로 조회합니다.
    */
   @GetMapping("/hq")
   public ResponseEntity<ApiResponse<List<ReturnListResponse>>> getReturnsForHq(
@@ -65,8 +73,15 @@ public class ReturnController {
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(required = false) String cursor
   ) {
+    if (cursor != null) {
+      Slice<ReturnListResponse> slice = returnService.getReturnsByCursor(
+          status, region, start, end, Cursor.decode(cursor), size);
+      return ResponseEntity.ok(ApiResponse.withCursor(slice,
+          r -> new Cursor(r.getCreatedAt(), r.getReturnId()))); // 200 OK
+    }
     Page<ReturnListResponse> result = returnService.getReturns(status, region, start, end, page,
         size);
     return ResponseEntity.ok(ApiResponse.withPagination(result)); // 200 OK
@@ -90,7 +105,7 @@ public class ReturnController {
   /**
    * (본사, 가맹점) 반품 상세를 조회합니다.
    */
-  
+  @GetMapping("/{returnId}")
   public ResponseEntity<ApiResponse<ReturnDetailResponse>> getReturnDetail(
       @PathVariable Long returnId
   ) {
@@ -110,6 +125,35 @@ public class ReturnController {
     return ResponseEntity.noContent().build(); // 204 No Content
   }
 
+  /**
+   * (본사) 여러 반품을 한 번에 완료 처리합니다. 반품별 처리 결과를 함께 반환합니다.
+   */
+  @PatchMapping("/complete")
+  public ResponseEntity<ApiResponse<BulkUpdateResponse>> completeReturns(
+      @RequestBody @Valid ReturnBulkCompleteRequest request
+  ) {
+    BulkUpdateResponse res = returnService.completeReturns(request);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * (본사) 발주 품목의 누적 반품 수량이 실제 반품 내역과 어긋난 행을 조회합니다.
+   */
+  @GetMapping("/returned-qty/drift")
+  public ResponseEntity<ApiResponse<List<ReturnedQtyDriftResponse>>> checkReturnedQtyDrift() {
+    List<ReturnedQtyDriftResponse> res = returnService.checkReturnedQtyDrift(false);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
+  /**
+   * (본사) 어긋난 누적 반품 수량을 실제 반품 내역에 맞게 보정하고, 보정한 행을 반환합니다.
+   */
+  @PostMapping("/returned-qty/drift/repair")
+  public ResponseEntity<ApiResponse<List<ReturnedQtyDriftResponse>>> repairReturnedQtyDrift() {
+    List<ReturnedQtyDriftResponse> res = returnService.checkReturnedQtyDrift(true);
+    return ResponseEntity.ok(ApiResponse.ok(res)); // 200 OK
+  }
+
   /**
    * 반품을 삭제합니다.
    */
@@ -1,6 +1,8 @@
 package com.yeahyak.backend.controller;
 
 import com.yeahyak.backend.dto.ApiResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.StockInBatchRequest;
 import com.yeahyak.backend.dto.StockInRequest;
 import com.yeahyak.backend.dto.StockInResponse;
 import com.yeahyak.backend.dto.StockTxDetailResponse;
@@ -15,6 +17,8 @@ import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -68,15 +72,34 @@ public class StockTxController {
     return ResponseEntity.created(location).body(ApiResponse.ok(res)); // 201 Created
   }
 
+  /**
+   * 여러 제품의 입고를 한 번에 처리합니다. (납품서 단위 입고)
+   */
+  @PostMapping("/in/batch")
+  public ResponseEntity<ApiResponse<List<StockInResponse>>> stockInBatch(
+      @RequestBody @Valid StockInBatchRequest request
+  ) {
+    List<StockInResponse> res = stockTxService.stockInBatch(request.getItems());
+    return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(res)); // 201 Created
+  }
+
   /**
    * 특정 제품의 재고 거래 내역을 조회합니다.
+   * cursor 파라미터를 넘기면(첫 페이지는 빈 값) 전체 건수 없이 커서 기반으로 조회합니다.
    */
   @GetMapping
   public ResponseEntity<ApiResponse<List<StockTxDetailResponse>>> listByProduct(
       @RequestParam Long productId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(required = false) String cursor
   ) {
+    if (cursor != null) {
+      Slice<StockTxDetailResponse> slice = stockTxService.searchStockTxByProductIdAndCursor(
+          productId, Cursor.decode(cursor), size);
+      return ResponseEntity.ok(ApiResponse.withCursor(slice,
+          s -> new Cursor(s.getCreatedAt(), s.getStockTxId()))); // 200 OK
+    }
     Page<StockTxDetailResponse> result = stockTxService.searchStockTxByProductId(
         productId, page, size);
     return ResponseEntity.ok(ApiResponse.withPagination(result)); // 200 OK
@@ -2,12 +2,14 @@ package com.yeahyak.backend.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 @Setter
@@ -20,6 +22,7 @@ public class ApiResponse<T> {
   private boolean success;
   private T data;
   private PageInfo page;
+  private CursorInfo cursor;
 
   public static <T> ApiResponse<T> ok(T data) {
     return ApiResponse.<T>builder()
@@ -36,6 +39,29 @@ public class ApiResponse<T> {
         .build();
   }
 
+  /**
+   * 커서 기반 조회 결과를 감쌉니다. 전체 건수는 계산하지 않고, 다음 페이지가 있으면 마지막 항목의 커서를 함께 내려줍니다.
+   */
+  public static <T> ApiResponse<List<T>> withCursor(Slice<T> slice, Function<T, Cursor> cursorOf) {
+    List<T> content = slice.getContent();
+    String nextCursor = (slice.hasNext() && !content.isEmpty())
+        ? cursorOf.apply(content.get(content.size() - 1)).encode()
+        : null;
+    return ApiResponse.<List<T>>builder()
+        .success(true)
+        .data(content)
+        .cursor(new CursorInfo(nextCursor, slice.hasNext()))
+        .build();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class CursorInfo {
+
+    private String nextCursor;
+    private boolean hasNext;
+  }
+
   @Getter
   @AllArgsConstructor
   public static class PageInfo {
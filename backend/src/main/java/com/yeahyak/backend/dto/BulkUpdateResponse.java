@@ -0,0 +1,45 @@
+package com.yeahyak.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateResponse {
+
+  private int successCount;
+  private int failureCount;
+  private List<BulkUpdateResponse.Result> results;
+
+  public static BulkUpdateResponse of(List<BulkUpdateResponse.Result> results) {
+    int successCount = (int) results.stream().filter(Result::isSuccess).count();
+    return new BulkUpdateResponse(successCount, results.size() - successCount, results);
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Result {
+
+    private Long id;
+    private boolean success;
+    private String message;
+
+    public static Result success(Long id) {
+      return new Result(id, true, null);
+    }
+
+    public static Result failure(Long id, String message) {
+      return new Result(id, false, message);
+    }
+  }
+}
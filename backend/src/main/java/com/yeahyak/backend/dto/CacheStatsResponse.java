@@ -0,0 +1,23 @@
+package com.yeahyak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+  private int size;
+  private int maxSize;
+  private long ttlSeconds;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+  private double hitRate;
+}
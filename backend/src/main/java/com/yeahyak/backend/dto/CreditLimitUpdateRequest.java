@@ -0,0 +1,20 @@
+package com.yeahyak.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditLimitUpdateRequest {
+
+  @NotNull
+  @PositiveOrZero
+  private BigDecimal creditLimit;
+}
@@ -0,0 +1,40 @@
+package com.yeahyak.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 위치입니다. (createdAt, id) 쌍을 클라이언트에는 불투명한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+  private LocalDateTime createdAt;
+  private Long id;
+
+  /**
+   * 커서 문자열을 해석합니다. 빈 값이면 첫 페이지를 의미하므로 null을 반환합니다.
+   */
+  public static Cursor decode(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\|", 2);
+      return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+    } catch (RuntimeException e) {
+      throw new RuntimeException("잘못된 커서입니다.", e);
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
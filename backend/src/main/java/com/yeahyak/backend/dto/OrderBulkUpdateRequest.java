@@ -0,0 +1,23 @@
+package com.yeahyak.backend.dto;
+
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkUpdateRequest {
+
+  @NotEmpty
+  private List<Long> orderIds;
+
+  @NotNull
+  private OrderStatus status;
+}
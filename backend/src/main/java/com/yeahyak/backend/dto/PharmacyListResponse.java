@@ -26,5 +26,6 @@ public class PharmacyListResponse {
   private Region region;
   private String contact;
   private BigDecimal outstandingBalance;
+  private BigDecimal creditLimit;
   private LocalDateTime latestSettlementAt;
 }
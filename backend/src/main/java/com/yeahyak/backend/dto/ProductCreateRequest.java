@@ -5,6 +5,7 @@ import com.yeahyak.backend.entity.enums.SubCategory;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -52,4 +53,7 @@ public class ProductCreateRequest {
   @NotNull
   @Positive
   private Integer stockQty;
+
+  @PositiveOrZero
+  private Integer reorderThreshold;
 }
@@ -28,5 +28,7 @@ public class ProductDetailResponse {
   private String details;
   private String productImgUrl;
   private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
   private Integer stockQty;
+  private Integer reorderThreshold;
 }
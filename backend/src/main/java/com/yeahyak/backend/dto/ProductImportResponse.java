@@ -0,0 +1,39 @@
+package com.yeahyak.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResponse {
+
+  private long totalCount;
+  private long createdCount;
+  private long updatedCount;
+  private long failureCount;
+
+  /**
+   * 실패한 행 중 앞에서부터 최대 개수까지만 담습니다. 잘린 경우 true입니다.
+   */
+  private boolean errorsTruncated;
+  private List<ProductImportResponse.RowError> errors;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RowError {
+
+    private long rowNumber;
+    private String insuranceCode;
+    private String message;
+  }
+}
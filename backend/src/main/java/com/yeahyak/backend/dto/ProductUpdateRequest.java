@@ -3,6 +3,7 @@ package com.yeahyak.backend.dto;
 import com.yeahyak.backend.entity.enums.MainCategory;
 import com.yeahyak.backend.entity.enums.SubCategory;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -39,4 +40,7 @@ public class ProductUpdateRequest {
   private String details;
 
   private String productImgUrl;
+
+  @PositiveOrZero
+  private Integer reorderThreshold;
 }
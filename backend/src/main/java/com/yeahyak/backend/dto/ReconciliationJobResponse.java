@@ -0,0 +1,34 @@
+package com.yeahyak.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationJobResponse {
+
+  private Status status;
+  private boolean repair;
+  private LocalDateTime requestedAt;
+  private LocalDateTime finishedAt;
+
+  /**
+   * 작업이 끝난 뒤에만 채워집니다.
+   */
+  private List<ReconciliationReport> reports;
+  private String errorMessage;
+
+  public enum Status {
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+}
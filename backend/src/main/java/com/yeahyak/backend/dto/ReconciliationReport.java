@@ -0,0 +1,45 @@
+package com.yeahyak.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationReport {
+
+  private String ledger;
+  private long scannedRows;
+  private long checkedEntities;
+  private long driftCount;
+  private long repairedCount;
+  private List<ReconciliationReport.Drift> drifts;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Drift {
+
+    /**
+     * CHAIN: 직전 거래의 잔량에 이번 거래 금액을 반영한 값과 거래 내역의 잔량이 다릅니다.
+     * HEAD: 마지막 거래 내역의 잔량과 현재 잔액(재고)이 다릅니다.
+     */
+    private String kind;
+    private Long entityId;
+    private Long ledgerId;
+    private BigDecimal expected;
+    private BigDecimal actual;
+  }
+}
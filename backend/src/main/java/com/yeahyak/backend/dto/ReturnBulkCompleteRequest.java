@@ -0,0 +1,18 @@
+package com.yeahyak.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReturnBulkCompleteRequest {
+
+  @NotEmpty
+  private List<Long> returnIds;
+}
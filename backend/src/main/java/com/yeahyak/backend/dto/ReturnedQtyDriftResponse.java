@@ -0,0 +1,21 @@
+package com.yeahyak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReturnedQtyDriftResponse {
+
+  private Long orderItemId;
+  private Long orderId;
+  private Long productId;
+  private Integer returnedQty;
+  private Integer expectedQty;
+}
@@ -0,0 +1,34 @@
+package com.yeahyak.backend.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockAlertEvent {
+
+  private Long productId;
+  private String productName;
+  private StockAlertEvent.Type type;
+  private Integer stockQty;
+  private Integer reorderThreshold;
+  private LocalDateTime occurredAt;
+
+  public enum Type {
+    /**
+     * 재고가 재주문 기준 수량 이하로 떨어졌습니다.
+     */
+    LOW,
+    /**
+     * 재고가 다시 재주문 기준 수량을 넘었습니다.
+     */
+    RECOVERED
+  }
+}
@@ -0,0 +1,25 @@
+package com.yeahyak.backend.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockAsOfResponse {
+
+  private Long productId;
+  private LocalDate date;
+  private Integer stockQty;
+
+  /**
+   * 계산에 사용한 스냅샷 날짜입니다. 스냅샷 없이 거래 내역만으로 계산했으면 null입니다.
+   */
+  private LocalDate snapshotDate;
+}
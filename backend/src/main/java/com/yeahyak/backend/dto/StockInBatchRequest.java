@@ -0,0 +1,21 @@
+package com.yeahyak.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockInBatchRequest {
+
+  @NotEmpty
+  @Size(max = 1000)
+  private List<@Valid StockInRequest> items;
+}
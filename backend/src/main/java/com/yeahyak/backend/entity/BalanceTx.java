@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,7 +32,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class BalanceTx {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_tx_seq")
+  @SequenceGenerator(name = "balance_tx_seq", sequenceName = "balance_txs_seq", allocationSize = 50)
   @Column(name = "balance_tx_id")
   private Long balanceTxId;
 
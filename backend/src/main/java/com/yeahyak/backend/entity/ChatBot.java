@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -30,7 +31,8 @@ import lombok.Setter;
 public class ChatBot {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chatbot_seq")
+  @SequenceGenerator(name = "chatbot_seq", sequenceName = "chatbot_seq", allocationSize = 50)
   @Column(name = "chatbot_id")
   private Long chatbotId;
 
@@ -0,0 +1,62 @@
+package com.yeahyak.backend.entity;
+
+import com.yeahyak.backend.entity.enums.IdempotencyScope;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_idempotency_keys_scope_pharmacy_key",
+        columnNames = {"scope", "pharmacy_id", "idempotency_key"})
+)
+public class IdempotencyKey {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "idempotency_key_id")
+  private Long idempotencyKeyId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private IdempotencyScope scope;
+
+  @Column(name = "pharmacy_id", nullable = false)
+  private Long pharmacyId;
+
+  @Column(name = "idempotency_key", nullable = false, length = 100)
+  private String idempotencyKey;
+
+  /**
+   * 요청 본문의 SHA-256 값(16진수)입니다. 같은 키로 다른 내용이 들어오면 재시도가 아닌 잘못된 요청으로 판단합니다.
+   */
+  @Column(name = "request_hash", nullable = false, length = 64)
+  private String requestHash;
+
+  @Column(name = "resource_id")
+  private Long resourceId;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
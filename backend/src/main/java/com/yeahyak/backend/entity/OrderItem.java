@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -26,7 +27,8 @@ import lombok.Setter;
 public class OrderItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+  @SequenceGenerator(name = "order_item_seq", sequenceName = "order_items_seq", allocationSize = 50)
   @Column(name = "order_item_id")
   private Long orderItemId;
 
@@ -46,4 +48,8 @@ public class OrderItem {
 
   @Column(name = "subtotal_price", nullable = false, precision = 10, scale = 2)
   private BigDecimal subtotalPrice;
+
+  // 취소되지 않은 반품 요청에 포함된 누적 수량입니다. 반품 생성/취소/삭제 시 발주 품목 행을 잠근 상태에서 함께 갱신합니다.
+  @Column(name = "returned_qty", nullable = false, columnDefinition = "INT DEFAULT 0")
+  private Integer returnedQty;
 }
@@ -47,6 +47,13 @@ public class Orders {
   @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
   private BigDecimal totalPrice;
 
+  // 목록 요약("OO 외 N개")용 비정규화 컬럼입니다. 이전에 생성된 발주는 null일 수 있습니다.
+  @Column(name = "item_count")
+  private Integer itemCount;
+
+  @Column(name = "first_product_name", length = 100)
+  private String firstProductName;
+
   @CreationTimestamp
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
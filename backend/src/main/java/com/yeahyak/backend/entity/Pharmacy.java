@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +29,8 @@ import lombok.Setter;
 @Table(name = "pharmacies")
 public class Pharmacy {
 
+  public static final BigDecimal DEFAULT_CREDIT_LIMIT = new BigDecimal("10000000");
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "pharmacy_id")
@@ -64,4 +67,14 @@ public class Pharmacy {
 
   @Column(name = "outstanding_balance", nullable = false, precision = 10, scale = 2)
   private BigDecimal outstandingBalance;
+
+  @Column(name = "credit_limit", nullable = false,
+      columnDefinition = "DECIMAL(10,2) DEFAULT 10000000.00")
+  private BigDecimal creditLimit;
+
+  /**
+   * 마지막 정산 시각입니다. 정산 시 잔액 차감과 같은 UPDATE 문에서 갱신됩니다.
+   */
+  @Column(name = "last_settlement_at")
+  private LocalDateTime lastSettlementAt;
 }
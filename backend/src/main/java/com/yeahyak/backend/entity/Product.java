@@ -19,6 +19,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Getter
@@ -69,6 +70,25 @@ public class Product {
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
+  /**
+   * 기준 정보(재고 수량 제외)를 마지막으로 수정한 시각입니다. 재고 수량은 일괄 UPDATE로 변경되므로 이 값을 바꾸지 않습니다.
+   */
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
   @Column(name = "stock_qty", nullable = false)
   private Integer stockQty;
+
+  /**
+   * 마지막 입고 시각입니다. 입고 시 재고 수량과 같은 UPDATE 문에서 갱신됩니다.
+   */
+  @Column(name = "last_stock_in_at")
+  private LocalDateTime lastStockInAt;
+
+  /**
+   * 재주문 기준 수량입니다. 재고가 이 값 이하가 되면 재고 부족으로 알립니다. 비어 있으면 기본값을 사용합니다.
+   */
+  @Column(name = "reorder_threshold")
+  private Integer reorderThreshold;
 }
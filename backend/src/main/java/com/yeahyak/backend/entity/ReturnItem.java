@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -26,7 +27,8 @@ import lombok.Setter;
 public class ReturnItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "return_item_seq")
+  @SequenceGenerator(name = "return_item_seq", sequenceName = "return_items_seq", allocationSize = 50)
   @Column(name = "return_item_id")
   private Long returnItemId;
 
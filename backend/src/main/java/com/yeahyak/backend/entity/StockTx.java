@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -30,7 +31,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class StockTx {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_tx_seq")
+  @SequenceGenerator(name = "stock_tx_seq", sequenceName = "stock_txs_seq", allocationSize = 50)
   @Column(name = "stock_tx_id")
   private Long stockTxId;
 
@@ -0,0 +1,6 @@
+package com.yeahyak.backend.entity.enums;
+
+public enum IdempotencyScope {
+  ORDER, // 발주 생성
+  RETURN // 반품 생성
+}
@@ -0,0 +1,16 @@
+package com.yeahyak.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 같은 Idempotency-Key로 들어온 요청이 아직 처리 중일 때 발생하는 예외입니다. 클라이언트는 잠시 후 같은 키로 다시 요청하면 처리
+ * 결과를 받습니다.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyConflictException extends RuntimeException {
+
+  public IdempotencyConflictException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
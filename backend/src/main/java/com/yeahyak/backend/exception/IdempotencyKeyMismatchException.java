@@ -0,0 +1,15 @@
+package com.yeahyak.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 이미 사용된 Idempotency-Key로 내용이 다른 요청이 들어왔을 때 발생하는 예외입니다.
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+  public IdempotencyKeyMismatchException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,18 @@
+package com.yeahyak.backend.exception;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 재고가 부족한 제품이 있을 때 발생하는 예외입니다. 부족한 제품명을 모두 담습니다.
+ */
+@Getter
+public class InsufficientStockException extends RuntimeException {
+
+  private final List<String> productNames;
+
+  public InsufficientStockException(List<String> productNames) {
+    super(String.join(", ", productNames) + "의 재고가 부족합니다.");
+    this.productNames = productNames;
+  }
+}
@@ -1,72 +1,62 @@
 package com.yeahyak.backend.repository;
 
 import com.yeahyak.backend.entity.BalanceTx;
-import com.yeahyak.backend.entity.enums.BalanceTxType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface BalanceTxRepository extends JpaRepository<BalanceTx, Long> {
+public interface BalanceTxRepository extends JpaRepository<BalanceTx, Long>,
+    KeysetSpecificationExecutor<BalanceTx>, BalanceTxRepositoryCustom {
 
+  /**
+   * 외상 한도를 넘지 않는 경우에만 미정산 잔액을 증가시킵니다. 한도 검사와 증가가 하나의 UPDATE 문으로 처리되므로 동시 발주에서도 한도를
+   * 초과하지 않습니다.
+   */
+  @Modifying(flushAutomatically = true)
   @Query("""
-      SELECT b FROM BalanceTx b
-      WHERE b.pharmacy.pharmacyId = :pharmacyId
-      AND (:type IS NULL OR b.type = :type)
-      AND (:start IS NULL OR b.createdAt >= :start)
-      AND (:end IS NULL OR b.createdAt <= :end)
+      UPDATE Pharmacy p
+      SET p.outstandingBalance = p.outstandingBalance + :amount
+      WHERE p.pharmacyId = :pharmacyId
+      AND p.outstandingBalance + :amount <= p.creditLimit
       """)
-  Page<BalanceTx> findByPharmacy_PharmacyIdAndTypeAndCreatedAtBetween(
+  int increaseBalanceWithinLimit(
       @Param("pharmacyId") Long pharmacyId,
-      @Param("type") BalanceTxType type,
-      @Param("start") LocalDateTime start,
-      @Param("end") LocalDateTime end,
-      Pageable pageable
-  );
-
-  @Query("""
-      SELECT b.pharmacy.pharmacyId AS pharmacyId, MAX(b.createdAt) AS latestSettlementAt
-      FROM BalanceTx b
-      WHERE b.pharmacy.pharmacyId IN :pharmacyIds
-      AND b.type = :type
-      GROUP BY b.pharmacy.pharmacyId
-      """)
-  List<PharmacyLatestSettlementProjection> findLatestSettlementDateByPharmacyIds(
-      @Param("pharmacyIds") List<Long> pharmacyIds,
-      @Param("type") BalanceTxType type
+      @Param("amount") BigDecimal amount
   );
 
-  interface PharmacyLatestSettlementProjection {
-
-    Long getPharmacyId();
-
-    LocalDateTime getLatestSettlementAt();
-  }
-
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Modifying(flushAutomatically = true)
   @Query("""
       UPDATE Pharmacy p
-      SET p.outstandingBalance = p.outstandingBalance + :amount
+      SET p.outstandingBalance = p.outstandingBalance - :amount
       WHERE p.pharmacyId = :pharmacyId
       """)
-  int increaseBalance(
+  int decreaseBalance(
       @Param("pharmacyId") Long pharmacyId,
       @Param("amount") BigDecimal amount
   );
 
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  /**
+   * 가맹점의 현재 미정산 잔액을 조회합니다. 잔액을 바꾼 UPDATE 직후에는 행 잠금을 잡은 상태이므로 변경 후 잔액이 됩니다.
+   */
+  @Query("SELECT p.outstandingBalance FROM Pharmacy p WHERE p.pharmacyId = :pharmacyId")
+  BigDecimal findOutstandingBalance(@Param("pharmacyId") Long pharmacyId);
+
+  /**
+   * 정산 금액만큼 잔액을 차감하고 마지막 정산 시각을 함께 기록합니다.
+   */
+  @Modifying(flushAutomatically = true)
   @Query("""
       UPDATE Pharmacy p
-      SET p.outstandingBalance = p.outstandingBalance - :amount
+      SET p.outstandingBalance = p.outstandingBalance - :amount,
+      p.lastSettlementAt = :settledAt
       WHERE p.pharmacyId = :pharmacyId
       """)
-  int decreaseBalance(
+  int settleBalance(
       @Param("pharmacyId") Long pharmacyId,
-      @Param("amount") BigDecimal amount
+      @Param("amount") BigDecimal amount,
+      @Param("settledAt") LocalDateTime settledAt
   );
 }
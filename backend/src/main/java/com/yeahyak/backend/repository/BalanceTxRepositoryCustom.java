@@ -0,0 +1,15 @@
+package com.yeahyak.backend.repository;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 여러 가맹점의 미정산 잔액을 한 번의 UPDATE 문으로 변경하는 커스텀 리포지토리입니다.
+ */
+public interface BalanceTxRepositoryCustom {
+
+  /**
+   * 가맹점별 금액만큼 미정산 잔액을 일괄 차감하고, 변경 후 잔액을 가맹점 ID별로 반환합니다. 존재하지 않는 가맹점은 결과에 포함되지 않습니다.
+   */
+  Map<Long, BigDecimal> decreaseBalances(Map<Long, BigDecimal> amounts);
+}
@@ -0,0 +1,62 @@
+package com.yeahyak.backend.repository;
+
+import com.yeahyak.backend.entity.Pharmacy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Hibernate;
+
+public class BalanceTxRepositoryImpl implements BalanceTxRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  public Map<Long, BigDecimal> decreaseBalances(Map<Long, BigDecimal> amounts) {
+    List<Long> pharmacyIds = amounts.keySet().stream().sorted().toList();
+    if (pharmacyIds.isEmpty()) {
+      return Map.of();
+    }
+
+    StringBuilder amountCase = new StringBuilder("CASE p.pharmacyId");
+    for (int i = 0; i < pharmacyIds.size(); i++) {
+      amountCase.append(" WHEN :id").append(i).append(" THEN :amount").append(i);
+    }
+    amountCase.append(" END");
+
+    em.flush();
+    Query update = em.createQuery("UPDATE Pharmacy p SET p.outstandingBalance = p.outstandingBalance - ("
+        + amountCase + ") WHERE p.pharmacyId IN :pharmacyIds");
+    for (int i = 0; i < pharmacyIds.size(); i++) {
+      Long pharmacyId = pharmacyIds.get(i);
+      update.setParameter("id" + i, pharmacyId);
+      update.setParameter("amount" + i, amounts.get(pharmacyId));
+    }
+    update.setParameter("pharmacyIds", pharmacyIds);
+    update.executeUpdate();
+
+    // 이미 로딩된 가맹점만 분리해 이후 조회에서 변경된 잔액을 읽도록 합니다.
+    for (Long pharmacyId : pharmacyIds) {
+      Pharmacy pharmacy = em.getReference(Pharmacy.class, pharmacyId);
+      if (Hibernate.isInitialized(pharmacy)) {
+        em.detach(pharmacy);
+      }
+    }
+
+    // UPDATE로 행 잠금을 잡은 상태이므로, 이어지는 조회 결과가 곧 변경 후 잔액입니다.
+    Map<Long, BigDecimal> balanceAfter = new LinkedHashMap<>();
+    em.createQuery("""
+            SELECT p.pharmacyId, p.outstandingBalance FROM Pharmacy p
+            WHERE p.pharmacyId IN :pharmacyIds
+            ORDER BY p.pharmacyId
+            """, Object[].class)
+        .setParameter("pharmacyIds", pharmacyIds)
+        .getResultList()
+        .forEach(row -> balanceAfter.put((Long) row[0], (BigDecimal) row[1]));
+    return balanceAfter;
+  }
+}
@@ -0,0 +1,20 @@
+package com.yeahyak.backend.repository;
+
+import com.yeahyak.backend.entity.IdempotencyKey;
+import com.yeahyak.backend.entity.enums.IdempotencyScope;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+  Optional<IdempotencyKey> findByScopeAndPharmacyIdAndIdempotencyKey(
+      IdempotencyScope scope, Long pharmacyId, String idempotencyKey);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :before")
+  int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
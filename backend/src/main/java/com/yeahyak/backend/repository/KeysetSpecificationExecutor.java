@@ -0,0 +1,25 @@
+package com.yeahyak.backend.repository;
+
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Specification 조건으로 COUNT 없이 다음 묶음만 읽는 커서 기반 조회를 제공합니다.
+ */
+public interface KeysetSpecificationExecutor<T> extends JpaSpecificationExecutor<T> {
+
+  /**
+   * size + 1 건을 읽어 다음 페이지 존재 여부를 판단합니다.
+   */
+  default Slice<T> findSlice(Specification<T> spec, Sort sort, int size) {
+    List<T> rows = findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+    boolean hasNext = rows.size() > size;
+    List<T> content = hasNext ? rows.subList(0, size) : rows;
+    return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
+  }
+}
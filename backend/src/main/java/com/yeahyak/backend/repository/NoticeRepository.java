@@ -2,10 +2,13 @@ package com.yeahyak.backend.repository;
 
 import com.yeahyak.backend.entity.Notice;
 import com.yeahyak.backend.entity.enums.NoticeType;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
@@ -25,4 +28,17 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
   );
 
   List<Notice> findTop5ByOrderByCreatedAtDesc();
+
+  @Query("SELECT COALESCE(n.updatedAt, n.createdAt) FROM Notice n WHERE n.noticeId = :noticeId")
+  Optional<LocalDateTime> findLastModifiedById(@Param("noticeId") Long noticeId);
+
+  @Query("SELECT MAX(COALESCE(n.updatedAt, n.createdAt)) AS lastModified, COUNT(n) AS count FROM Notice n")
+  NoticeVersionProjection findVersion();
+
+  interface NoticeVersionProjection {
+
+    LocalDateTime getLastModified();
+
+    long getCount();
+  }
 }
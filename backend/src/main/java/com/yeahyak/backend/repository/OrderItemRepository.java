@@ -2,12 +2,101 @@ package com.yeahyak.backend.repository;
 
 import com.yeahyak.backend.entity.OrderItem;
 import com.yeahyak.backend.entity.Orders;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
   List<OrderItem> findByOrders(Orders orders);
 
+  List<OrderItem> findByOrders_OrderIdIn(Collection<Long> orderIds);
+
+  @Query("""
+      SELECT oi FROM OrderItem oi
+      JOIN FETCH oi.product
+      WHERE oi.orders.orderId IN :orderIds
+      ORDER BY oi.orderItemId
+      """)
+  List<OrderItem> findWithProductByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
   void deleteAllByOrders(Orders orders);
+
+  /**
+   * 반품 가능 수량을 검증하고 누적 반품 수량을 갱신하기 위해 발주의 품목 행을 잠급니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+      SELECT oi FROM OrderItem oi
+      WHERE oi.orders.orderId = :orderId
+      ORDER BY oi.orderItemId
+      """)
+  List<OrderItem> findByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+  /**
+   * 발주 품목별 기대 누적 반품 수량입니다. 앞 줄들의 발주 수량 합을 뺀 나머지를 해당 줄의 발주 수량까지만 채웁니다.
+   */
+  String EXPECTED_RETURNED_QTY = """
+        SELECT oi.order_item_id, oi.order_id, oi.product_id, oi.returned_qty,
+               LEAST(oi.quantity, GREATEST(0, COALESCE(r.qty, 0) - COALESCE(SUM(oi.quantity) OVER (
+                 PARTITION BY oi.order_id, oi.product_id ORDER BY oi.order_item_id
+                 ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0))) AS expected_qty
+        FROM order_items oi
+        LEFT JOIN (
+          SELECT rt.order_id, ri.product_id, SUM(ri.quantity) AS qty
+          FROM return_items ri
+          JOIN returns rt ON rt.return_id = ri.return_id
+          WHERE rt.status <> 'CANCELED'
+          GROUP BY rt.order_id, ri.product_id
+        ) r ON r.order_id = oi.order_id AND r.product_id = oi.product_id
+      """;
+
+  /**
+   * 누적 반품 수량이 실제 반품 품목 합계(취소 제외)와 다른 발주 품목을 조회합니다.
+   * <p>
+   * 반품 품목은 제품 단위로 기록되므로 합계도 (발주, 제품) 단위로 구합니다. 같은 제품이 여러 줄로 발주된 경우 합계를 발주 품목 ID 순서로
+   * 각 줄의 발주 수량만큼 채운 값을 그 줄의 기대값으로 봅니다. 반품 생성/취소가 같은 순서로 채우고 비웁니다.
+   */
+  @Query(value = """
+      SELECT e.order_item_id AS orderItemId, e.order_id AS orderId, e.product_id AS productId,
+             e.returned_qty AS returnedQty, e.expected_qty AS expectedQty
+      FROM (
+      """ + EXPECTED_RETURNED_QTY + """
+      ) e
+      WHERE e.returned_qty <> e.expected_qty
+      ORDER BY e.order_item_id
+      """, nativeQuery = true)
+  List<ReturnedQtyDriftProjection> findReturnedQtyDrift();
+
+  interface ReturnedQtyDriftProjection {
+
+    Long getOrderItemId();
+
+    Long getOrderId();
+
+    Long getProductId();
+
+    Integer getReturnedQty();
+
+    Integer getExpectedQty();
+  }
+
+  /**
+   * 누적 반품 수량을 {@link #findReturnedQtyDrift()}의 기대값으로 다시 맞추고, 변경된 행 수를 반환합니다.
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE order_items oi
+      JOIN (
+      """ + EXPECTED_RETURNED_QTY + """
+      ) e ON e.order_item_id = oi.order_item_id
+      SET oi.returned_qty = e.expected_qty
+      WHERE oi.returned_qty <> e.expected_qty
+      """, nativeQuery = true)
+  int repairReturnedQty();
 }
@@ -2,39 +2,31 @@ package com.yeahyak.backend.repository;
 
 import com.yeahyak.backend.entity.Orders;
 import com.yeahyak.backend.entity.enums.OrderStatus;
-import com.yeahyak.backend.entity.enums.Region;
-import java.time.LocalDateTime;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Orders, Long> {
+public interface OrderRepository extends JpaRepository<Orders, Long>,
+    KeysetSpecificationExecutor<Orders> {
 
-  @Query("""
-      SELECT o FROM Orders o
-      WHERE o.pharmacy.pharmacyId = :pharmacyId
-      AND (:status IS NULL OR o.status = :status)
-      """)
-  Page<Orders> findByPharmacy_PharmacyIdAndStatus(
-      @Param("pharmacyId") Long pharmacyId,
-      @Param("status") OrderStatus status,
-      Pageable pageable
-  );
+  @Query("SELECT o.orderId AS orderId, o.status AS status FROM Orders o WHERE o.orderId IN :orderIds")
+  List<OrderStatusProjection> findStatusesByIds(@Param("orderIds") Collection<Long> orderIds);
 
-  @Query("""
-      SELECT o FROM Orders o
-      WHERE (:status IS NULL OR o.status = :status)
-      AND (:region IS NULL OR o.pharmacy.region = :region)
-      AND (:start IS NULL OR o.createdAt >= :start)
-      AND (:end IS NULL OR o.createdAt <= :end)
-      """)
-  Page<Orders> findByStatusAndRegionAndCreatedAtBetween(
-      @Param("status") OrderStatus status,
-      @Param("region") Region region,
-      @Param("start") LocalDateTime start,
-      @Param("end") LocalDateTime end,
-      Pageable pageable
-  );
+  interface OrderStatusProjection {
+
+    Long getOrderId();
+
+    OrderStatus getStatus();
+  }
+
+  /**
+   * 상태 변경을 위해 발주 요청 행을 잠급니다. 교착 상태를 피하기 위해 발주 ID 오름차순으로 잠금을 획득합니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT o FROM Orders o WHERE o.orderId IN :orderIds ORDER BY o.orderId")
+  List<Orders> findAllByIdForUpdate(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -3,43 +3,107 @@ package com.yeahyak.backend.repository;
 import com.yeahyak.backend.entity.Product;
 import com.yeahyak.backend.entity.enums.MainCategory;
 import com.yeahyak.backend.entity.enums.SubCategory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>,
+    JpaSpecificationExecutor<Product> {
 
   List<Product> findByInsuranceCodeIn(Collection<String> insuranceCodes);
 
+  /**
+   * 검색 색인에 필요한 컬럼만 조회합니다. 상세 설명과 이미지는 읽지 않습니다.
+   */
   @Query("""
-      SELECT p FROM Product p
-      WHERE p.mainCategory = :mainCategory
-      AND (:subCategory IS NULL OR p.subCategory = :subCategory)
-      AND (:keyword IS NULL OR p.productName LIKE CONCAT('%', :keyword, '%'))
+      SELECT p.productId AS productId, p.productName AS productName,
+      p.manufacturer AS manufacturer, p.insuranceCode AS insuranceCode,
+      p.mainCategory AS mainCategory, p.subCategory AS subCategory, p.createdAt AS createdAt
+      FROM Product p
       """)
-  Page<Product> findByMainCategoryAndSubCategoryAndProductName(
-      @Param("mainCategory") MainCategory mainCategory,
-      @Param("subCategory") SubCategory subCategory,
-      @Param("keyword") String keyword,
-      Pageable pageable
-  );
+  List<ProductSearchProjection> findAllForSearch();
 
   @Query("""
-      SELECT p FROM Product p
-      WHERE p.mainCategory = :mainCategory
-      AND (:subCategory IS NULL OR p.subCategory = :subCategory)
-      AND (:keyword IS NULL OR p.productName LIKE CONCAT('%', :keyword, '%'))
-      AND (:stockQtyThreshold IS NULL OR p.stockQty <= :stockQtyThreshold)
+      SELECT COALESCE(p.updatedAt, p.createdAt) AS updatedAt, p.stockQty AS stockQty
+      FROM Product p
+      WHERE p.productId = :productId
       """)
-  Page<Product> findByMainCategoryAndSubCategoryAndProductNameAndStockQty(
-      @Param("mainCategory") MainCategory mainCategory,
-      @Param("subCategory") SubCategory subCategory,
-      @Param("keyword") String keyword,
-      @Param("stockQtyThreshold") Integer stockQtyThreshold,
-      Pageable pageable
-  );
+  Optional<ProductVersionProjection> findVersionById(@Param("productId") Long productId);
+
+  /**
+   * 주어진 제품 중 재고가 기준 수량 이하인 제품의 재고만 조회합니다.
+   */
+  @Query("""
+      SELECT p.productId AS productId, p.stockQty AS stockQty, p.lastStockInAt AS lastStockInAt
+      FROM Product p
+      WHERE p.productId IN :productIds AND p.stockQty <= :threshold
+      """)
+  List<ProductStockProjection> findStockByIdInAndStockQtyAtMost(
+      @Param("productIds") Collection<Long> productIds, @Param("threshold") int threshold);
+
+  @Query("""
+      SELECT COUNT(p)
+      FROM Product p
+      WHERE p.productId IN :productIds AND p.stockQty <= :threshold
+      """)
+  long countByIdInAndStockQtyAtMost(
+      @Param("productIds") Collection<Long> productIds, @Param("threshold") int threshold);
+
+  /**
+   * 발주 금액 계산에 필요한 단가와 제품명만 조회합니다. 발주 트랜잭션 안에서 DB의 현재 값을 읽기 위해 캐시를 거치지 않습니다.
+   */
+  @Query("""
+      SELECT p.productId AS productId, p.productName AS productName, p.unitPrice AS unitPrice
+      FROM Product p
+      WHERE p.productId IN :productIds
+      """)
+  List<ProductPriceProjection> findPriceByIdIn(@Param("productIds") Collection<Long> productIds);
+
+  interface ProductSearchProjection {
+
+    Long getProductId();
+
+    String getProductName();
+
+    String getManufacturer();
+
+    String getInsuranceCode();
+
+    MainCategory getMainCategory();
+
+    SubCategory getSubCategory();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  interface ProductVersionProjection {
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getStockQty();
+  }
+
+  interface ProductPriceProjection {
+
+    Long getProductId();
+
+    String getProductName();
+
+    BigDecimal getUnitPrice();
+  }
+
+  interface ProductStockProjection {
+
+    Long getProductId();
+
+    Integer getStockQty();
+
+    LocalDateTime getLastStockInAt();
+  }
 }
@@ -1,9 +1,7 @@
 package com.yeahyak.backend.repository;
 
-import com.yeahyak.backend.entity.Orders;
 import com.yeahyak.backend.entity.ReturnItem;
 import com.yeahyak.backend.entity.Returns;
-import com.yeahyak.backend.entity.enums.ReturnStatus;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,19 +10,17 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReturnItemRepository extends JpaRepository<ReturnItem, Long> {
 
+  List<ReturnItem> findByReturns(Returns returns);
+
+  List<ReturnItem> findByReturns_ReturnIdIn(Collection<Long> returnIds);
+
   @Query("""
-      SELECT COALESCE(SUM(ri.quantity), 0) FROM ReturnItem ri
-      WHERE ri.returns.orders = :orders
-      AND ri.product.productId = :productId
-      AND ri.returns.status IN (:statuses)
+      SELECT ri FROM ReturnItem ri
+      JOIN FETCH ri.product
+      WHERE ri.returns.returnId IN :returnIds
+      ORDER BY ri.returnItemId
       """)
-  long sumReturnedQtyForOrderAndProduct(
-      @Param("orders") Orders orders,
-      @Param("productId") Long productId,
-      @Param("statuses") Collection<ReturnStatus> statuses
-  );
-
-  List<ReturnItem> findByReturns(Returns returns);
+  List<ReturnItem> findWithProductByReturnIds(@Param("returnIds") Collection<Long> returnIds);
 
   void deleteAllByReturns(Returns returns);
 }
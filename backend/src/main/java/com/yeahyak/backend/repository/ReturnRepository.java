@@ -1,40 +1,40 @@
 package com.yeahyak.backend.repository;
 
 import com.yeahyak.backend.entity.Returns;
-import com.yeahyak.backend.entity.enums.Region;
 import com.yeahyak.backend.entity.enums.ReturnStatus;
-import java.time.LocalDateTime;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ReturnRepository extends JpaRepository<Returns, Long> {
+public interface ReturnRepository extends JpaRepository<Returns, Long>,
+    KeysetSpecificationExecutor<Returns> {
 
   @Query("""
       SELECT r FROM Returns r
-      WHERE r.pharmacy.pharmacyId = :pharmacyId
-      AND (:status IS NULL OR r.status = :status)
+      JOIN FETCH r.pharmacy
+      WHERE r.returnId = :returnId
       """)
-  Page<Returns> findByPharmacy_PharmacyIdAndStatus(
-      @Param("pharmacyId") Long pharmacyId,
-      @Param("status") ReturnStatus status,
-      Pageable pageable
-  );
+  Optional<Returns> findWithPharmacyById(@Param("returnId") Long returnId);
 
-  @Query("""
-      SELECT r FROM Returns r
-      WHERE (:status IS NULL OR r.status = :status)
-      AND (:region IS NULL OR r.pharmacy.region = :region)
-      AND (:start IS NULL OR r.createdAt >= :start)
-      AND (:end IS NULL OR r.createdAt <= :end)
-      """)
-  Page<Returns> findByStatusAndRegionAndCreatedAtBetween(
-      @Param("status") ReturnStatus status,
-      @Param("region") Region region,
-      @Param("start") LocalDateTime start,
-      @Param("end") LocalDateTime end,
-      Pageable pageable
-  );
+  @Query("SELECT r.returnId AS returnId, r.status AS status FROM Returns r WHERE r.returnId IN :returnIds")
+  List<ReturnStatusProjection> findStatusesByIds(@Param("returnIds") Collection<Long> returnIds);
+
+  interface ReturnStatusProjection {
+
+    Long getReturnId();
+
+    ReturnStatus getStatus();
+  }
+
+  /**
+   * 상태 변경을 위해 반품 요청 행을 잠급니다. 교착 상태를 피하기 위해 반품 ID 오름차순으로 잠금을 획득합니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT r FROM Returns r WHERE r.returnId IN :returnIds ORDER BY r.returnId")
+  List<Returns> findAllByIdForUpdate(@Param("returnIds") Collection<Long> returnIds);
 }
@@ -0,0 +1,38 @@
+package com.yeahyak.backend.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 재고 변경 결과입니다. 모든 제품의 재고가 충분한 경우에만 반영되며, 그렇지 않으면 부족한 제품을 모두 담아 반환합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StockChange {
+
+  private final Map<Long, Integer> quantityAfter;
+  private final List<String> shortProductNames;
+  private final List<Long> missingProductIds;
+
+  /**
+   * 반영된 제품별 변경 전후 수량과 재주문 기준 수량입니다.
+   */
+  private final List<StockLevel> levels;
+
+  public boolean isApplied() {
+    return shortProductNames.isEmpty() && missingProductIds.isEmpty();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class StockLevel {
+
+    private final Long productId;
+    private final String productName;
+    private final int quantityBefore;
+    private final int quantityAfter;
+    private final Integer reorderThreshold;
+  }
+}
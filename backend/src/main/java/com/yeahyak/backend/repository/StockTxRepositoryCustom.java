@@ -0,0 +1,17 @@
+package com.yeahyak.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 여러 제품의 재고 수량을 한 번의 UPDATE 문으로 변경하는 커스텀 리포지토리입니다.
+ */
+public interface StockTxRepositoryCustom {
+
+  /**
+   * 제품별 증감량(차감은 음수)을 재고에 반영하고 변경 후 수량을 돌려줍니다. 제품 ID 오름차순으로 행 잠금을 획득한 뒤 전체 재고를 한 번에
+   * 검증하고, 하나라도 부족하거나 없는 제품이 있으면 아무것도 변경하지 않습니다. stockInAt이 있으면 같은 UPDATE 문에서 제품의 마지막 입고
+   * 시각도 기록합니다.
+   */
+  StockChange applyStockDeltas(Map<Long, Integer> deltas, LocalDateTime stockInAt);
+}
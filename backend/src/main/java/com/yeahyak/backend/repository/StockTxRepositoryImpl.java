@@ -0,0 +1,107 @@
+package com.yeahyak.backend.repository;
+
+import com.yeahyak.backend.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Hibernate;
+
+public class StockTxRepositoryImpl implements StockTxRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public StockChange applyStockDeltas(Map<Long, Integer> deltas, LocalDateTime stockInAt) {
+    List<Long> productIds = deltas.keySet().stream().sorted().toList();
+    if (productIds.isEmpty()) {
+      return new StockChange(Map.of(), List.of(), List.of(), List.of());
+    }
+
+    // MySQL에는 UPDATE ... RETURNING이 없으므로, 잠금 조회 한 번으로 현재 수량을 읽어 변경 후 수량을 직접 계산합니다.
+    // 교착 상태를 피하기 위해 항상 제품 ID 오름차순으로 잠금을 획득합니다.
+    em.flush();
+    List<Object[]> rows = em.createNativeQuery("""
+            SELECT product_id, product_name, stock_qty, reorder_threshold
+            FROM products
+            WHERE product_id IN (:productIds)
+            ORDER BY product_id
+            FOR UPDATE
+            """)
+        .setParameter("productIds", productIds)
+        .getResultList();
+
+    Map<Long, Integer> quantityAfter = new LinkedHashMap<>();
+    List<String> shortProductNames = new ArrayList<>();
+    List<StockChange.StockLevel> levels = new ArrayList<>();
+    for (Object[] row : rows) {
+      Long productId = ((Number) row[0]).longValue();
+      int before = ((Number) row[2]).intValue();
+      int after = before + deltas.get(productId);
+      if (after < 0) {
+        shortProductNames.add((String) row[1]);
+      } else {
+        quantityAfter.put(productId, after);
+        levels.add(new StockChange.StockLevel(productId, (String) row[1], before, after,
+            row[3] == null ? null : ((Number) row[3]).intValue()));
+      }
+    }
+
+    List<Long> missingProductIds = new ArrayList<>(productIds);
+    rows.forEach(row -> missingProductIds.remove(((Number) row[0]).longValue()));
+
+    StockChange change =
+        new StockChange(quantityAfter, shortProductNames, missingProductIds, levels);
+    if (change.isApplied()) {
+      updateStockQtys(deltas, stockInAt);
+      evictLoadedProducts(productIds);
+    }
+    return change;
+  }
+
+  /**
+   * 제품별 증감량을 CASE 식으로 묶어 단일 UPDATE 문을 실행합니다. 잠금을 잡은 상태에서 검증을 마친 뒤 호출되므로 별도 조건은 두지
+   * 않습니다.
+   */
+  private void updateStockQtys(Map<Long, Integer> deltas, LocalDateTime stockInAt) {
+    List<Long> productIds = new ArrayList<>(deltas.keySet());
+    StringBuilder deltaCase = new StringBuilder("CASE p.productId");
+    for (int i = 0; i < productIds.size(); i++) {
+      deltaCase.append(" WHEN :id").append(i).append(" THEN :delta").append(i);
+    }
+    deltaCase.append(" END");
+
+    Query query = em.createQuery("UPDATE Product p SET p.stockQty = p.stockQty + ("
+        + deltaCase + ")" + (stockInAt != null ? ", p.lastStockInAt = :stockInAt" : "")
+        + " WHERE p.productId IN :productIds");
+    for (int i = 0; i < productIds.size(); i++) {
+      Long productId = productIds.get(i);
+      query.setParameter("id" + i, productId);
+      query.setParameter("delta" + i, deltas.get(productId));
+    }
+    query.setParameter("productIds", productIds);
+    if (stockInAt != null) {
+      query.setParameter("stockInAt", stockInAt);
+    }
+    query.executeUpdate();
+  }
+
+  /**
+   * 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 이미 로딩된 제품만 분리해 이후 조회에서 최신 수량을 읽도록 합니다. 호출자가 관리 중인
+   * 다른 엔티티는 그대로 유지됩니다.
+   */
+  private void evictLoadedProducts(List<Long> productIds) {
+    for (Long productId : productIds) {
+      Product product = em.getReference(Product.class, productId);
+      if (Hibernate.isInitialized(product)) {
+        em.detach(product);
+      }
+    }
+  }
+}
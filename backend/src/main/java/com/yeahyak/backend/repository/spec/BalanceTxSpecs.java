@@ -0,0 +1,37 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.entity.BalanceTx;
+import com.yeahyak.backend.entity.enums.BalanceTxType;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 잔액 거래 내역 조회 조건입니다.
+ */
+public final class BalanceTxSpecs {
+
+  private BalanceTxSpecs() {
+  }
+
+  public static Specification<BalanceTx> pharmacyId(Long pharmacyId) {
+    return (root, query, cb) -> pharmacyId == null ? null
+        : cb.equal(root.get("pharmacy").get("pharmacyId"), pharmacyId);
+  }
+
+  public static Specification<BalanceTx> type(BalanceTxType type) {
+    return SpecUtils.equal("type", type);
+  }
+
+  public static Specification<BalanceTx> createdFrom(LocalDateTime start) {
+    return SpecUtils.atLeast("createdAt", start);
+  }
+
+  public static Specification<BalanceTx> createdTo(LocalDateTime end) {
+    return SpecUtils.atMost("createdAt", end);
+  }
+
+  public static Specification<BalanceTx> before(Cursor cursor) {
+    return SpecUtils.before("balanceTxId", cursor);
+  }
+}
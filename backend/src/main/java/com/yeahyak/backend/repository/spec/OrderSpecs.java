@@ -0,0 +1,47 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 발주 목록 조회 조건입니다.
+ */
+public final class OrderSpecs {
+
+  private OrderSpecs() {
+  }
+
+  public static Specification<Orders> fetchPharmacy() {
+    return SpecUtils.fetch("pharmacy");
+  }
+
+  public static Specification<Orders> pharmacyId(Long pharmacyId) {
+    return (root, query, cb) -> pharmacyId == null ? null
+        : cb.equal(root.get("pharmacy").get("pharmacyId"), pharmacyId);
+  }
+
+  public static Specification<Orders> status(OrderStatus status) {
+    return SpecUtils.equal("status", status);
+  }
+
+  public static Specification<Orders> region(Region region) {
+    return (root, query, cb) -> region == null ? null
+        : cb.equal(SpecUtils.join(root, "pharmacy").get("region"), region);
+  }
+
+  public static Specification<Orders> createdFrom(LocalDateTime start) {
+    return SpecUtils.atLeast("createdAt", start);
+  }
+
+  public static Specification<Orders> createdTo(LocalDateTime end) {
+    return SpecUtils.atMost("createdAt", end);
+  }
+
+  public static Specification<Orders> before(Cursor cursor) {
+    return SpecUtils.before("orderId", cursor);
+  }
+}
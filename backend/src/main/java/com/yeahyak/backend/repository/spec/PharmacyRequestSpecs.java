@@ -0,0 +1,27 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.entity.PharmacyRequest;
+import com.yeahyak.backend.entity.enums.PharmacyRequestStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 가맹점 가입 요청 목록 조회 조건입니다.
+ */
+public final class PharmacyRequestSpecs {
+
+  private PharmacyRequestSpecs() {
+  }
+
+  public static Specification<PharmacyRequest> status(PharmacyRequestStatus status) {
+    return SpecUtils.equal("status", status);
+  }
+
+  public static Specification<PharmacyRequest> region(Region region) {
+    return SpecUtils.equal("region", region);
+  }
+
+  public static Specification<PharmacyRequest> pharmacyNameContains(String keyword) {
+    return SpecUtils.contains("pharmacyName", keyword);
+  }
+}
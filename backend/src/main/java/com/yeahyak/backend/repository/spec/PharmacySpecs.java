@@ -0,0 +1,31 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.enums.Region;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 가맹점 목록 조회 조건입니다.
+ */
+public final class PharmacySpecs {
+
+  private PharmacySpecs() {
+  }
+
+  /**
+   * unsettled가 true이면 미정산 잔액이 남아 있는 가맹점만 조회합니다.
+   */
+  public static Specification<Pharmacy> unsettled(Boolean unsettled) {
+    return (root, query, cb) -> !Boolean.TRUE.equals(unsettled) ? null
+        : cb.greaterThan(root.get("outstandingBalance"), BigDecimal.ZERO);
+  }
+
+  public static Specification<Pharmacy> region(Region region) {
+    return SpecUtils.equal("region", region);
+  }
+
+  public static Specification<Pharmacy> pharmacyNameContains(String keyword) {
+    return SpecUtils.contains("pharmacyName", keyword);
+  }
+}
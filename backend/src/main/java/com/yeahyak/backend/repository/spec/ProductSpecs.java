@@ -0,0 +1,27 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.MainCategory;
+import com.yeahyak.backend.entity.enums.SubCategory;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 제품 목록 조회 조건입니다.
+ */
+public final class ProductSpecs {
+
+  private ProductSpecs() {
+  }
+
+  public static Specification<Product> mainCategory(MainCategory mainCategory) {
+    return SpecUtils.equal("mainCategory", mainCategory);
+  }
+
+  public static Specification<Product> subCategory(SubCategory subCategory) {
+    return SpecUtils.equal("subCategory", subCategory);
+  }
+
+  public static Specification<Product> stockQtyAtMost(Integer threshold) {
+    return SpecUtils.atMost("stockQty", threshold);
+  }
+}
@@ -0,0 +1,47 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.entity.Returns;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.entity.enums.ReturnStatus;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 반품 목록 조회 조건입니다.
+ */
+public final class ReturnSpecs {
+
+  private ReturnSpecs() {
+  }
+
+  public static Specification<Returns> fetchPharmacy() {
+    return SpecUtils.fetch("pharmacy");
+  }
+
+  public static Specification<Returns> pharmacyId(Long pharmacyId) {
+    return (root, query, cb) -> pharmacyId == null ? null
+        : cb.equal(root.get("pharmacy").get("pharmacyId"), pharmacyId);
+  }
+
+  public static Specification<Returns> status(ReturnStatus status) {
+    return SpecUtils.equal("status", status);
+  }
+
+  public static Specification<Returns> region(Region region) {
+    return (root, query, cb) -> region == null ? null
+        : cb.equal(SpecUtils.join(root, "pharmacy").get("region"), region);
+  }
+
+  public static Specification<Returns> createdFrom(LocalDateTime start) {
+    return SpecUtils.atLeast("createdAt", start);
+  }
+
+  public static Specification<Returns> createdTo(LocalDateTime end) {
+    return SpecUtils.atMost("createdAt", end);
+  }
+
+  public static Specification<Returns> before(Cursor cursor) {
+    return SpecUtils.before("returnId", cursor);
+  }
+}
@@ -0,0 +1,87 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.dto.Cursor;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 엔티티별 Specification에서 함께 쓰는 조건 조립 도구입니다.
+ * 각 조건은 값이 주어지지 않으면 null을 반환해 WHERE 절에서 빠지도록 합니다.
+ */
+final class SpecUtils {
+
+  private SpecUtils() {
+  }
+
+  /**
+   * Page 조회 시 Spring Data가 함께 실행하는 COUNT 쿼리인지 확인합니다. COUNT 쿼리에는 fetch join을 걸 수 없습니다.
+   */
+  static boolean isCountQuery(CriteriaQuery<?> query) {
+    Class<?> resultType = query.getResultType();
+    return resultType == Long.class || resultType == long.class;
+  }
+
+  /**
+   * 연관 엔티티를 fetch join 합니다. COUNT 쿼리에서는 아무 조건도 추가하지 않습니다.
+   */
+  static <T> Specification<T> fetch(String attribute) {
+    return (root, query, cb) -> {
+      if (!isCountQuery(query)) {
+        root.fetch(attribute);
+      }
+      return null;
+    };
+  }
+
+  /**
+   * 이미 fetch/join 된 연관이 있으면 재사용하고, 없으면 새로 join 합니다. 같은 테이블이 두 번 join 되는 것을 막습니다.
+   */
+  static From<?, ?> join(Root<?> root, String attribute) {
+    for (Fetch<?, ?> fetch : root.getFetches()) {
+      if (fetch.getAttribute().getName().equals(attribute) && fetch instanceof Join<?, ?> join) {
+        return join;
+      }
+    }
+    for (Join<?, ?> join : root.getJoins()) {
+      if (join.getAttribute().getName().equals(attribute)) {
+        return join;
+      }
+    }
+    return root.join(attribute);
+  }
+
+  static <T> Specification<T> equal(String attribute, Object value) {
+    return (root, query, cb) -> value == null ? null : cb.equal(root.get(attribute), value);
+  }
+
+  static <T> Specification<T> contains(String attribute, String keyword) {
+    return (root, query, cb) -> (keyword == null || keyword.isBlank())
+        ? null
+        : cb.like(root.get(attribute), "%" + keyword + "%");
+  }
+
+  static <T, Y extends Comparable<? super Y>> Specification<T> atLeast(String attribute, Y value) {
+    return (root, query, cb) -> value == null ? null
+        : cb.greaterThanOrEqualTo(root.get(attribute), value);
+  }
+
+  static <T, Y extends Comparable<? super Y>> Specification<T> atMost(String attribute, Y value) {
+    return (root, query, cb) -> value == null ? null
+        : cb.lessThanOrEqualTo(root.get(attribute), value);
+  }
+
+  /**
+   * (createdAt, id) 내림차순 기준으로 커서보다 앞선 행만 남깁니다.
+   */
+  static <T> Specification<T> before(String idAttribute, Cursor cursor) {
+    return (root, query, cb) -> cursor == null ? null : cb.or(
+        cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+        cb.and(
+            cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+            cb.lessThan(root.get(idAttribute), cursor.getId())));
+  }
+}
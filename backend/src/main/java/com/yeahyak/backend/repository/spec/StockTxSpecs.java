@@ -0,0 +1,23 @@
+package com.yeahyak.backend.repository.spec;
+
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.entity.StockTx;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 재고 거래 내역 조회 조건입니다.
+ */
+public final class StockTxSpecs {
+
+  private StockTxSpecs() {
+  }
+
+  public static Specification<StockTx> productId(Long productId) {
+    return (root, query, cb) -> productId == null ? null
+        : cb.equal(root.get("product").get("productId"), productId);
+  }
+
+  public static Specification<StockTx> before(Cursor cursor) {
+    return SpecUtils.before("stockTxId", cursor);
+  }
+}
@@ -0,0 +1,394 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.dto.BalanceTxListResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.StockTxDetailResponse;
+import com.yeahyak.backend.entity.enums.BalanceTxType;
+import com.yeahyak.backend.entity.enums.StockTxType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계속 쌓이기만 하는 이력 테이블(재고/잔액 거래 내역, 챗봇 대화)에서 보관 기간이 지난 행을 {@code <테이블>_archive}로 옮깁니다.
+ * <p>
+ * 한 묶음의 INSERT/DELETE가 하나의 트랜잭션이므로 중간에 중단되어도 다음 실행에서 남은 행부터 이어서 옮깁니다. 테이블별로 어느 시각 이전의
+ * 행이 보관 테이블에 있을 수 있는지를 archive_state에 기록합니다. 조회는 원본 테이블에서 먼저 읽고, 읽은 범위가 그 시각 이전에 닿을 때만
+ * 보관 테이블을 함께 읽습니다. 보관 테이블과 archive_state는 db/migration에서 만듭니다.
+ * <p>
+ * archive_state는 조회마다 읽지 않고 읽은 지 stateTtlSeconds가 지날 때까지 메모리에 둡니다. 다른 서버가 보관 작업을 실행하면 그동안은
+ * 이전 기준 시각으로 판단할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ArchiveService {
+
+  /**
+   * 보관 대상 테이블입니다. 보관 테이블은 원본과 같은 컬럼 구성이며, 컬럼 목록을 명시해 옮깁니다.
+   */
+  private enum ArchiveTable {
+    STOCK_TXS("stock_txs", "stock_tx_id", "created_at",
+        "stock_tx_id, product_id, type, amount, quantity_after, created_at"),
+    BALANCE_TXS("balance_txs", "balance_tx_id", "created_at",
+        "balance_tx_id, pharmacy_id, type, amount, balance_after, created_at"),
+    CHATBOT("chatbot", "chatbot_id", "asked_at",
+        "chatbot_id, user_id, type, question, answer, asked_at, answered_at");
+
+    private final String table;
+    private final String idColumn;
+    private final String timeColumn;
+    private final String columns;
+
+    ArchiveTable(String table, String idColumn, String timeColumn, String columns) {
+      this.table = table;
+      this.idColumn = idColumn;
+      this.timeColumn = timeColumn;
+      this.columns = columns;
+    }
+
+    private String archive() {
+      return table + "_archive";
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int horizonDays;
+  private final int batchSize;
+  private final long stateTtlSeconds;
+
+  private final Map<String, ArchiveState> states = new ConcurrentHashMap<>();
+
+  public ArchiveService(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${archive.horizon-days:365}") int horizonDays,
+      @Value("${archive.batch-size:1000}") int batchSize,
+      @Value("${archive.state-ttl-seconds:60}") long stateTtlSeconds
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.horizonDays = horizonDays;
+    this.batchSize = batchSize;
+    this.stateTtlSeconds = stateTtlSeconds;
+  }
+
+  /**
+   * 매일 새벽 보관 기간이 지난 행을 옮깁니다.
+   */
+  @Scheduled(cron = "${archive.cron:0 0 4 * * *}")
+  public void archiveNightly() {
+    archive();
+  }
+
+  /**
+   * 모든 보관 대상 테이블에서 보관 기간이 지난 행을 옮기고, 테이블별로 옮긴 행 수를 반환합니다.
+   */
+  public Map<String, Long> archive() {
+    LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(horizonDays);
+    Map<String, Long> moved = new HashMap<>();
+    for (ArchiveTable table : ArchiveTable.values()) {
+      moved.put(table.table, archive(table, cutoff));
+    }
+    return moved;
+  }
+
+  private long archive(ArchiveTable table, LocalDateTime cutoff) {
+    // 옮기기 전에 기준 시각을 먼저 기록해, 옮기는 도중의 조회도 보관 테이블을 함께 읽도록 합니다.
+    jdbcTemplate.update(
+        "INSERT INTO archive_state (table_name, archived_before, updated_at) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE archived_before = GREATEST(archived_before, VALUES(archived_before)), "
+            + "updated_at = VALUES(updated_at)",
+        table.table, Timestamp.valueOf(cutoff), Timestamp.valueOf(LocalDateTime.now()));
+    states.remove(table.table);
+
+    long total = 0;
+    while (true) {
+      Batch batch = transactionTemplate.execute(status -> moveBatch(table, cutoff));
+      total += batch.moved;
+      if (batch.lastBatch || batch.moved == 0) {
+        break;
+      }
+    }
+    log.info("[ArchiveService] {} 보관 완료 (cutoff={}, moved={})", table.table, cutoff, total);
+    return total;
+  }
+
+  /**
+   * 기준 시각 이전의 행을 (생성 시각, ID) 순서로 batchSize건 읽어 옮깁니다. ID는 pooled 시퀀스라 서버마다 구간을 나눠 받으므로 ID 순서로
+   * 끊으면 오래된 행을 건너뛸 수 있어, 생성 시각 인덱스로 범위를 직접 찾습니다.
+   */
+  private Batch moveBatch(ArchiveTable table, LocalDateTime cutoff) {
+    List<Long> ids = jdbcTemplate.queryForList(
+        "SELECT " + table.idColumn + " FROM " + table.table
+            + " WHERE " + table.timeColumn + " < ?"
+            + " ORDER BY " + table.timeColumn + ", " + table.idColumn + " LIMIT " + batchSize,
+        Long.class, Timestamp.valueOf(cutoff));
+    if (ids.isEmpty()) {
+      return new Batch(0, true);
+    }
+
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+    Object[] args = ids.toArray();
+    jdbcTemplate.update(
+        "INSERT INTO " + table.archive() + " (" + table.columns + ") SELECT " + table.columns
+            + " FROM " + table.table + " WHERE " + table.idColumn + " IN (" + placeholders + ")",
+        args);
+    int deleted = jdbcTemplate.update(
+        "DELETE FROM " + table.table + " WHERE " + table.idColumn + " IN (" + placeholders + ")",
+        args);
+    return new Batch(deleted, ids.size() < batchSize);
+  }
+
+  /**
+   * 이 시각 이전의 행만 보관 테이블에 있을 수 있습니다. 보관된 적이 없으면 null을 반환합니다.
+   */
+  public LocalDateTime archivedBefore(String table) {
+    ArchiveState state = states.get(table);
+    if (state == null
+        || System.nanoTime() - state.loadedAtNanos >= TimeUnit.SECONDS.toNanos(stateTtlSeconds)) {
+      List<Timestamp> archivedBefore = jdbcTemplate.queryForList(
+          "SELECT archived_before FROM archive_state WHERE table_name = ?", Timestamp.class, table);
+      state = new ArchiveState(
+          archivedBefore.isEmpty() ? null : archivedBefore.get(0).toLocalDateTime());
+      states.put(table, state);
+    }
+    return state.archivedBefore;
+  }
+
+  /**
+   * 원본 테이블에서 읽은 결과를 보관 테이블 없이 그대로 돌려줘도 되는지 확인합니다. 보관된 행은 모두 기준 시각 이전이므로, size건을 꽉
+   * 채운 결과의 마지막 행이 기준 시각 이후이면 그 사이에 끼어들 보관 행이 없습니다.
+   */
+  public boolean coversLive(LocalDateTime archivedBefore, int rows, int size, LocalDateTime oldest) {
+    return archivedBefore == null
+        || rows >= size && oldest != null && !oldest.isBefore(archivedBefore);
+  }
+
+  /**
+   * 보관 테이블에 있는 잔액 거래 내역 수를 조회합니다.
+   */
+  public long countBalanceTxs(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end
+  ) {
+    List<Object> args = new ArrayList<>();
+    String where = balanceTxConditions(pharmacyId, type, start, end, null, args);
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + ArchiveTable.BALANCE_TXS.archive() + where, Long.class,
+        args.toArray());
+  }
+
+  /**
+   * 보관 테이블에 있는 특정 제품의 재고 거래 내역 수를 조회합니다.
+   */
+  public long countStockTxs(Long productId) {
+    List<Object> args = new ArrayList<>();
+    String where = stockTxConditions(productId, null, args);
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + ArchiveTable.STOCK_TXS.archive() + where, Long.class,
+        args.toArray());
+  }
+
+  /**
+   * 보관 테이블을 포함해 잔액 거래 내역을 최신순으로 조회합니다.
+   */
+  public Page<BalanceTxListResponse> getBalanceTxs(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end,
+      int page, int size
+  ) {
+    List<Object> args = new ArrayList<>();
+    String where = balanceTxConditions(pharmacyId, type, start, end, null, args);
+
+    Long total = jdbcTemplate.queryForObject(
+        "SELECT (SELECT COUNT(*) FROM balance_txs" + where + ")"
+            + " + (SELECT COUNT(*) FROM balance_txs_archive" + where + ")",
+        Long.class, concat(args, args));
+
+    // 각 테이블에서 필요한 만큼만 정렬해 읽은 뒤 합칩니다.
+    long limit = (long) (page + 1) * size;
+    List<BalanceTxListResponse> content = jdbcTemplate.query(
+        union(ArchiveTable.BALANCE_TXS, where, limit) + " LIMIT " + size + " OFFSET " + (long) page * size,
+        this::mapBalanceTx, concat(args, args));
+    return new PageImpl<>(content,
+        PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt")), total);
+  }
+
+  /**
+   * 보관 테이블을 포함해 잔액 거래 내역을 커서 기반으로 조회합니다.
+   */
+  public Slice<BalanceTxListResponse> getBalanceTxsByCursor(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end,
+      Cursor cursor, int size
+  ) {
+    List<Object> args = new ArrayList<>();
+    String where = balanceTxConditions(pharmacyId, type, start, end, cursor, args);
+
+    List<BalanceTxListResponse> rows = jdbcTemplate.query(
+        union(ArchiveTable.BALANCE_TXS, where, size + 1) + " LIMIT " + (size + 1),
+        this::mapBalanceTx, concat(args, args));
+    boolean hasNext = rows.size() > size;
+    List<BalanceTxListResponse> content = hasNext ? rows.subList(0, size) : rows;
+    return new SliceImpl<>(content,
+        PageRequest.of(0, size, Sort.by(Direction.DESC, "createdAt", "balanceTxId")), hasNext);
+  }
+
+  private String balanceTxConditions(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end, Cursor cursor,
+      List<Object> args
+  ) {
+    List<String> conditions = new ArrayList<>();
+    if (pharmacyId != null) {
+      conditions.add("pharmacy_id = ?");
+      args.add(pharmacyId);
+    }
+    if (type != null) {
+      conditions.add("type = ?");
+      args.add(type.name());
+    }
+    if (start != null) {
+      conditions.add("created_at >= ?");
+      args.add(Timestamp.valueOf(start));
+    }
+    if (end != null) {
+      conditions.add("created_at <= ?");
+      args.add(Timestamp.valueOf(end));
+    }
+    if (cursor != null) {
+      conditions.add("(created_at < ? OR (created_at = ? AND balance_tx_id < ?))");
+      args.add(Timestamp.valueOf(cursor.getCreatedAt()));
+      args.add(Timestamp.valueOf(cursor.getCreatedAt()));
+      args.add(cursor.getId());
+    }
+    return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+  }
+
+  /**
+   * 보관 테이블을 포함해 특정 제품의 재고 거래 내역을 최신순으로 조회합니다.
+   */
+  public Page<StockTxDetailResponse> getStockTxs(Long productId, int page, int size) {
+    List<Object> args = new ArrayList<>();
+    String where = stockTxConditions(productId, null, args);
+
+    Long total = jdbcTemplate.queryForObject(
+        "SELECT (SELECT COUNT(*) FROM stock_txs" + where + ")"
+            + " + (SELECT COUNT(*) FROM stock_txs_archive" + where + ")",
+        Long.class, concat(args, args));
+
+    long limit = (long) (page + 1) * size;
+    List<StockTxDetailResponse> content = jdbcTemplate.query(
+        union(ArchiveTable.STOCK_TXS, where, limit) + " LIMIT " + size + " OFFSET " + (long) page * size,
+        this::mapStockTx, concat(args, args));
+    return new PageImpl<>(content,
+        PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt")), total);
+  }
+
+  /**
+   * 보관 테이블을 포함해 특정 제품의 재고 거래 내역을 커서 기반으로 조회합니다.
+   */
+  public Slice<StockTxDetailResponse> getStockTxsByCursor(Long productId, Cursor cursor, int size) {
+    List<Object> args = new ArrayList<>();
+    String where = stockTxConditions(productId, cursor, args);
+
+    List<StockTxDetailResponse> rows = jdbcTemplate.query(
+        union(ArchiveTable.STOCK_TXS, where, size + 1) + " LIMIT " + (size + 1),
+        this::mapStockTx, concat(args, args));
+    boolean hasNext = rows.size() > size;
+    List<StockTxDetailResponse> content = hasNext ? rows.subList(0, size) : rows;
+    return new SliceImpl<>(content,
+        PageRequest.of(0, size, Sort.by(Direction.DESC, "createdAt", "stockTxId")), hasNext);
+  }
+
+  private String stockTxConditions(Long productId, Cursor cursor, List<Object> args) {
+    List<String> conditions = new ArrayList<>();
+    conditions.add("product_id = ?");
+    args.add(productId);
+    if (cursor != null) {
+      conditions.add("(created_at < ? OR (created_at = ? AND stock_tx_id < ?))");
+      args.add(Timestamp.valueOf(cursor.getCreatedAt()));
+      args.add(Timestamp.valueOf(cursor.getCreatedAt()));
+      args.add(cursor.getId());
+    }
+    return " WHERE " + String.join(" AND ", conditions);
+  }
+
+  private String union(ArchiveTable table, String where, long limit) {
+    String order = " ORDER BY " + table.timeColumn + " DESC, " + table.idColumn + " DESC";
+    return "SELECT " + table.columns + " FROM ("
+        + "(SELECT " + table.columns + " FROM " + table.table + where + order + " LIMIT " + limit + ")"
+        + " UNION ALL "
+        + "(SELECT " + table.columns + " FROM " + table.archive() + where + order + " LIMIT " + limit + ")"
+        + ") t" + order;
+  }
+
+  private BalanceTxListResponse mapBalanceTx(ResultSet rs, int rowNum) throws SQLException {
+    return BalanceTxListResponse.builder()
+        .balanceTxId(rs.getLong("balance_tx_id"))
+        .pharmacyId(rs.getLong("pharmacy_id"))
+        .type(BalanceTxType.valueOf(rs.getString("type")))
+        .amount(rs.getBigDecimal("amount"))
+        .balanceAfter(rs.getBigDecimal("balance_after"))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .build();
+  }
+
+  private StockTxDetailResponse mapStockTx(ResultSet rs, int rowNum) throws SQLException {
+    return StockTxDetailResponse.builder()
+        .stockTxId(rs.getLong("stock_tx_id"))
+        .productId(rs.getLong("product_id"))
+        .type(StockTxType.valueOf(rs.getString("type")))
+        .amount(rs.getInt("amount"))
+        .quantityAfter(rs.getInt("quantity_after"))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .build();
+  }
+
+  private Object[] concat(List<Object> first, List<Object> second) {
+    List<Object> all = new ArrayList<>(first);
+    all.addAll(second);
+    return all.toArray();
+  }
+
+  private static class ArchiveState {
+
+    private final LocalDateTime archivedBefore;
+    private final long loadedAtNanos;
+
+    private ArchiveState(LocalDateTime archivedBefore) {
+      this.archivedBefore = archivedBefore;
+      this.loadedAtNanos = System.nanoTime();
+    }
+  }
+
+  private static class Batch {
+
+    private final int moved;
+    private final boolean lastBatch;
+
+    private Batch(int moved, boolean lastBatch) {
+      this.moved = moved;
+      this.lastBatch = lastBatch;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.yeahyak.backend.service;
 
 import com.yeahyak.backend.dto.BalanceTxListResponse;
+import com.yeahyak.backend.dto.Cursor;
 import com.yeahyak.backend.dto.SettlementRequest;
 import com.yeahyak.backend.dto.SettlementResponse;
 import com.yeahyak.backend.entity.BalanceTx;
@@ -8,14 +9,24 @@ import com.yeahyak.backend.entity.Pharmacy;
 import com.yeahyak.backend.entity.enums.BalanceTxType;
 import com.yeahyak.backend.repository.BalanceTxRepository;
 import com.yeahyak.backend.repository.PharmacyRepository;
+import com.yeahyak.backend.repository.spec.BalanceTxSpecs;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,34 +36,83 @@ public class BalanceTxService {
 
   private final PharmacyRepository pharmacyRepo;
   private final BalanceTxRepository balanceTxRepo;
+  private final ArchiveService archiveService;
 
+  /**
+   * 잔액 거래 내역을 생성하고, 가맹점의 미정산 잔액을 업데이트합니다. 발주(ORDER)는 가맹점별 외상 한도 안에서만 처리됩니다.
+   * <p>
+   * 한도 확인과 잔액 변경은 조건부 UPDATE 한 문장이며, 영향받은 행 수로 성공 여부를 판단합니다. UPDATE가 가맹점 행을 잠근 상태이므로
+   * 이어서 읽은 잔액이 곧 변경 후 잔액입니다.
+   */
   @Transactional
   public void createBalanceTx(Long pharmacyId, BalanceTxType type, BigDecimal amount) {
-    Pharmacy pharmacy = pharmacyRepo.findById(pharmacyId)
-        .orElseThrow(() -> new RuntimeException("가맹점 정보를 찾을 수 없습니다."));
-
-    BigDecimal before = pharmacy.getOutstandingBalance();
-    BigDecimal after;
-
     switch (type) {
       case ORDER -> {
-        balanceTxRepo.increaseBalance(pharmacyId, amount);
-        after = before.add(amount);
+        if (balanceTxRepo.increaseBalanceWithinLimit(pharmacyId, amount) == 0) {
+          throw new RuntimeException("외상 한도를 초과합니다.");
+        }
       }
       case RETURN, ORDER_CANCEL -> {
-        balanceTxRepo.decreaseBalance(pharmacyId, amount);
-        after = before.subtract(amount);
+        if (balanceTxRepo.decreaseBalance(pharmacyId, amount) == 0) {
+          throw new RuntimeException("가맹점 정보를 찾을 수 없습니다.");
+        }
       }
       default -> throw new RuntimeException("잘못된 거래 유형입니다.");
     }
-
-    BalanceTx balanceTx = BalanceTx.builder()
-        .pharmacy(pharmacy)
+    balanceTxRepo.save(BalanceTx.builder()
+        .pharmacy(pharmacyRepo.getReferenceById(pharmacyId))
         .type(type)
         .amount(amount)
-        .balanceAfter(after)
-        .build();
-    balanceTxRepo.save(balanceTx);
+        .balanceAfter(balanceTxRepo.findOutstandingBalance(pharmacyId))
+        .build());
+  }
+
+  /**
+   * 여러 가맹점의 잔액 거래 내역을 한 번에 생성합니다. 발주 취소/반품처럼 잔액을 줄이는 거래만 지원하며, 잔액은 단일 UPDATE 문으로 일괄
+   * 차감하고 거래 내역은 일괄 저장합니다.
+   */
+  @Transactional
+  public List<BalanceTx> createBalanceTxs(Map<Long, BigDecimal> amounts, BalanceTxType type) {
+    return createBalanceTxs(List.copyOf(amounts.entrySet()), type);
+  }
+
+  /**
+   * 같은 가맹점이 여러 번 나올 수 있는 (가맹점 ID, 금액) 목록으로 잔액 거래 내역을 한 번에 생성합니다. 잔액은 가맹점별로 합산해 한 번에
+   * 차감하고, 거래 내역은 목록의 항목마다 한 건씩 남깁니다. 각 거래 내역의 변경 후 잔액은 목록 순서대로 이어지도록 계산합니다.
+   */
+  @Transactional
+  public List<BalanceTx> createBalanceTxs(
+      List<Map.Entry<Long, BigDecimal>> amounts, BalanceTxType type
+  ) {
+    if (type != BalanceTxType.RETURN && type != BalanceTxType.ORDER_CANCEL) {
+      throw new RuntimeException("잘못된 거래 유형입니다.");
+    }
+    if (amounts.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, BigDecimal> totals = amounts.stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, BigDecimal::add,
+            LinkedHashMap::new));
+    Map<Long, BigDecimal> balanceAfter = balanceTxRepo.decreaseBalances(totals);
+    if (balanceAfter.size() != totals.size()) {
+      throw new RuntimeException("가맹점 정보를 찾을 수 없습니다.");
+    }
+
+    // 합산해 반영한 변경 후 잔액에서 변경 전 잔액을 구한 뒤, 항목마다 금액을 빼 나갑니다.
+    Map<Long, BigDecimal> balances = new HashMap<>();
+    balanceAfter.forEach((pharmacyId, after) ->
+        balances.put(pharmacyId, after.add(totals.get(pharmacyId))));
+    List<BalanceTx> balanceTxs = new ArrayList<>(amounts.size());
+    for (Map.Entry<Long, BigDecimal> entry : amounts) {
+      balanceTxs.add(BalanceTx.builder()
+          .pharmacy(pharmacyRepo.getReferenceById(entry.getKey()))
+          .type(type)
+          .amount(entry.getValue())
+          .balanceAfter(balances.merge(entry.getKey(), entry.getValue(), BigDecimal::subtract))
+          .build());
+    }
+    return balanceTxRepo.saveAll(balanceTxs);
   }
 
   @Transactional(readOnly = true)
@@ -61,16 +121,85 @@ public class BalanceTxService {
       int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return balanceTxRepo.findByPharmacy_PharmacyIdAndTypeAndCreatedAtBetween(
-        pharmacyId, type, start, end, pageable
-    ).map(balanceTx -> BalanceTxListResponse.builder()
-        .balanceTxId(balanceTx.getBalanceTxId())
-        .pharmacyId(balanceTx.getPharmacy().getPharmacyId())
-        .type(balanceTx.getType())
-        .amount(balanceTx.getAmount())
-        .balanceAfter(balanceTx.getBalanceAfter())
-        .createdAt(balanceTx.getCreatedAt())
-        .build());
+    Page<BalanceTxListResponse> live = balanceTxRepo
+        .findAll(search(pharmacyId, type, start, end), pageable)
+        .map(balanceTx -> BalanceTxListResponse.builder()
+            .balanceTxId(balanceTx.getBalanceTxId())
+            .pharmacyId(balanceTx.getPharmacy().getPharmacyId())
+            .type(balanceTx.getType())
+            .amount(balanceTx.getAmount())
+            .balanceAfter(balanceTx.getBalanceAfter())
+            .createdAt(balanceTx.getCreatedAt())
+            .build());
+    LocalDateTime archivedBefore = archivedBefore(start);
+    if (archivedBefore == null) {
+      return live;
+    }
+    if (archiveService.coversLive(archivedBefore, live.getNumberOfElements(), size, oldest(live))) {
+      return new PageImpl<>(live.getContent(), pageable,
+          live.getTotalElements() + archiveService.countBalanceTxs(pharmacyId, type, start, end));
+    }
+    return archiveService.getBalanceTxs(pharmacyId, type, start, end, page, size);
+  }
+
+  /**
+   * 가맹점의 잔액 거래 내역을 커서 기반으로 조회합니다. 원본 테이블에서 먼저 읽고, 커서나 읽은 결과가 보관 기준 시각 이전에 닿으면 보관
+   * 테이블도 함께 조회합니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<BalanceTxListResponse> getBalanceTxsByCursor(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end,
+      Cursor cursor, int size
+  ) {
+    LocalDateTime archivedBefore = archivedBefore(start);
+    if (archivedBefore != null && cursor != null && cursor.getCreatedAt().isBefore(archivedBefore)) {
+      return archiveService.getBalanceTxsByCursor(pharmacyId, type, start, end, cursor, size);
+    }
+    Specification<BalanceTx> spec = search(pharmacyId, type, start, end)
+        .and(BalanceTxSpecs.before(cursor));
+    Slice<BalanceTxListResponse> live = balanceTxRepo
+        .findSlice(spec, Sort.by(Direction.DESC, "createdAt", "balanceTxId"), size)
+        .map(balanceTx -> BalanceTxListResponse.builder()
+            .balanceTxId(balanceTx.getBalanceTxId())
+            .pharmacyId(pharmacyId)
+            .type(balanceTx.getType())
+            .amount(balanceTx.getAmount())
+            .balanceAfter(balanceTx.getBalanceAfter())
+            .createdAt(balanceTx.getCreatedAt())
+            .build());
+    // 다음 묶음이 원본 테이블에 남아 있어야 보관 테이블을 읽지 않고도 다음 페이지 여부를 알 수 있습니다.
+    if (archivedBefore == null || live.hasNext()
+        && archiveService.coversLive(archivedBefore, live.getNumberOfElements(), size, oldest(live))) {
+      return live;
+    }
+    return archiveService.getBalanceTxsByCursor(pharmacyId, type, start, end, cursor, size);
+  }
+
+  /**
+   * 조회 기간이 보관 기준 시각 이전을 포함하면 그 시각을 반환합니다. 보관된 적이 없거나 start가 기준 시각 이후이면 null입니다.
+   */
+  private LocalDateTime archivedBefore(LocalDateTime start) {
+    LocalDateTime archivedBefore = archiveService.archivedBefore("balance_txs");
+    return archivedBefore == null || start != null && !start.isBefore(archivedBefore)
+        ? null : archivedBefore;
+  }
+
+  private LocalDateTime oldest(Slice<BalanceTxListResponse> rows) {
+    return rows.hasContent() ? rows.getContent().get(rows.getNumberOfElements() - 1).getCreatedAt()
+        : null;
+  }
+
+  /**
+   * 실제로 지정된 조건만 WHERE 절에 포함되도록 조회 조건을 조립합니다.
+   */
+  private Specification<BalanceTx> search(
+      Long pharmacyId, BalanceTxType type, LocalDateTime start, LocalDateTime end
+  ) {
+    return Specification.allOf(
+        BalanceTxSpecs.pharmacyId(pharmacyId),
+        BalanceTxSpecs.type(type),
+        BalanceTxSpecs.createdFrom(start),
+        BalanceTxSpecs.createdTo(end));
   }
 
   @Transactional
@@ -85,7 +214,7 @@ public class BalanceTxService {
     BigDecimal amount = before;
     BigDecimal after = BigDecimal.ZERO;
 
-    balanceTxRepo.decreaseBalance(pharmacy.getPharmacyId(), amount);
+    balanceTxRepo.settleBalance(pharmacy.getPharmacyId(), amount, LocalDateTime.now());
 
     BalanceTx balanceTx = BalanceTx.builder()
         .pharmacy(pharmacy)
@@ -4,14 +4,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yeahyak.backend.dto.ForecastProduct;
 import com.yeahyak.backend.dto.ForecastRawResult;
-import com.yeahyak.backend.entity.Product;
 import com.yeahyak.backend.exception.FlaskPredictException;
-import com.yeahyak.backend.repository.ProductRepository;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,7 +29,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ForecastService {
 
-  private final ProductRepository productRepo;
+  private final ProductCatalogCache productCatalogCache;
   private final RestTemplate restTemplate;
   private final ObjectMapper objectMapper;
 
@@ -85,13 +82,12 @@ public class ForecastService {
           .distinct()
           .toList();
 
-      Map<String, Product> productMap = productRepo
-          .findByInsuranceCodeIn(insuranceCodes).stream()
-          .collect(Collectors.toMap(Product::getInsuranceCode, p -> p));
+      Map<String, ProductCatalogCache.Entry> productMap =
+          productCatalogCache.getAllByInsuranceCodes(insuranceCodes);
 
       // 매핑
       return Arrays.stream(rawResults).map(rawResult -> {
-        Product product = productMap.get(rawResult.getInsuranceCode());
+        ProductCatalogCache.Entry product = productMap.get(rawResult.getInsuranceCode());
         int quantity = (rawResult.getPredictedQuantity() != null)
             ? rawResult.getPredictedQuantity()
             : 0;
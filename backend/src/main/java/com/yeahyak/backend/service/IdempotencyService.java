@@ -0,0 +1,185 @@
+package com.yeahyak.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeahyak.backend.entity.IdempotencyKey;
+import com.yeahyak.backend.entity.enums.IdempotencyScope;
+import com.yeahyak.backend.exception.IdempotencyConflictException;
+import com.yeahyak.backend.exception.IdempotencyKeyMismatchException;
+import com.yeahyak.backend.repository.IdempotencyKeyRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Idempotency-Key 헤더로 발주/반품 생성 요청의 재시도를 식별하는 서비스 클래스입니다.
+ * <p>
+ * 키는 (범위, 가맹점, 키) 단위로 구분되며, 요청 본문의 해시를 함께 기록해 같은 키로 다른 내용이 들어오면 422로 거절합니다. 처리 완료된
+ * 키는 크기가 제한된 메모리 캐시(LRU)와 idempotency_keys 테이블에 함께 기록되고, 보관 기간이 지나면 삭제됩니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+  private static final int MAX_KEY_LENGTH = 100;
+
+  private final IdempotencyKeyRepository idempotencyKeyRepo;
+  private final ObjectMapper objectMapper;
+  private final long ttlHours;
+  private final Map<String, Completed> cache;
+
+  public IdempotencyService(
+      IdempotencyKeyRepository idempotencyKeyRepo,
+      ObjectMapper objectMapper,
+      @Value("${idempotency.cache.max-entries:10000}") int maxEntries,
+      @Value("${idempotency.ttl-hours:72}") long ttlHours
+  ) {
+    this.idempotencyKeyRepo = idempotencyKeyRepo;
+    this.objectMapper = objectMapper;
+    this.ttlHours = ttlHours;
+    this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Completed> eldest) {
+        return size() > maxEntries;
+      }
+    });
+  }
+
+  /**
+   * 요청 본문을 JSON으로 직렬화한 값의 SHA-256 해시를 반환합니다.
+   */
+  public String hash(Object request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new RuntimeException("요청 해시를 계산할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 이미 처리된 요청이면 그때 생성된 리소스 ID를, 처음 보는 키이면 null을 반환합니다. 같은 키로 내용이 다른 요청이 들어오면
+   * {@link IdempotencyKeyMismatchException}을 던집니다.
+   */
+  @Transactional(readOnly = true)
+  public Long findResourceId(
+      IdempotencyScope scope, Long pharmacyId, String key, String requestHash
+  ) {
+    validate(pharmacyId, key);
+    String cacheKey = cacheKey(scope, pharmacyId, key);
+    Completed cached = cache.get(cacheKey);
+    if (cached != null) {
+      return verify(cached.requestHash, requestHash, cached.resourceId);
+    }
+    IdempotencyKey found = idempotencyKeyRepo
+        .findByScopeAndPharmacyIdAndIdempotencyKey(scope, pharmacyId, key)
+        .orElse(null);
+    if (found == null || found.getResourceId() == null) {
+      return null;
+    }
+    cache.put(cacheKey, new Completed(found.getResourceId(), found.getRequestHash()));
+    return verify(found.getRequestHash(), requestHash, found.getResourceId());
+  }
+
+  /**
+   * 현재 트랜잭션 안에서 키를 선점합니다. 같은 키로 동시에 들어온 요청은 유니크 제약에 의해 하나만 통과하고, 나머지는
+   * {@link IdempotencyConflictException}(409)을 받습니다.
+   */
+  @Transactional
+  public IdempotencyKey register(
+      IdempotencyScope scope, Long pharmacyId, String key, String requestHash
+  ) {
+    validate(pharmacyId, key);
+    try {
+      return idempotencyKeyRepo.saveAndFlush(IdempotencyKey.builder()
+          .scope(scope)
+          .pharmacyId(pharmacyId)
+          .idempotencyKey(key)
+          .requestHash(requestHash)
+          .build());
+    } catch (DataIntegrityViolationException e) {
+      throw new IdempotencyConflictException(
+          "동일한 요청이 이미 처리 중입니다. 잠시 후 같은 Idempotency-Key로 다시 시도해 주세요.", e);
+    }
+  }
+
+  /**
+   * 선점한 키에 생성된 리소스 ID를 기록합니다. 캐시는 트랜잭션이 커밋된 뒤에 갱신됩니다.
+   */
+  @Transactional
+  public void complete(IdempotencyKey idempotencyKey, Long resourceId) {
+    idempotencyKey.setResourceId(resourceId);
+    idempotencyKeyRepo.save(idempotencyKey);
+
+    String cacheKey = cacheKey(idempotencyKey.getScope(), idempotencyKey.getPharmacyId(),
+        idempotencyKey.getIdempotencyKey());
+    Completed completed = new Completed(resourceId, idempotencyKey.getRequestHash());
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.put(cacheKey, completed);
+        }
+      });
+    } else {
+      cache.put(cacheKey, completed);
+    }
+  }
+
+  /**
+   * 보관 기간(idempotency.ttl-hours)이 지난 키를 삭제합니다. 삭제된 키로 다시 요청하면 새 요청으로 처리됩니다.
+   */
+  @Scheduled(cron = "${idempotency.purge-cron:0 20 4 * * *}")
+  @Transactional
+  public void purgeExpired() {
+    int deleted = idempotencyKeyRepo.deleteByCreatedAtBefore(
+        LocalDateTime.now().minusHours(ttlHours));
+    // 캐시 항목에는 생성 시각이 없으므로, 삭제된 키가 캐시로 재사용되지 않도록 비웁니다.
+    cache.clear();
+    log.info("[IdempotencyService] 만료된 Idempotency-Key 삭제 (deleted={}, ttlHours={})", deleted,
+        ttlHours);
+  }
+
+  private Long verify(String storedHash, String requestHash, Long resourceId) {
+    if (!storedHash.equals(requestHash)) {
+      throw new IdempotencyKeyMismatchException("Idempotency-Key가 다른 요청에 이미 사용되었습니다.");
+    }
+    return resourceId;
+  }
+
+  private void validate(Long pharmacyId, String key) {
+    if (pharmacyId == null) {
+      throw new RuntimeException("가맹점 정보를 찾을 수 없습니다.");
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new RuntimeException("Idempotency-Key 형식이 올바르지 않습니다.");
+    }
+  }
+
+  private String cacheKey(IdempotencyScope scope, Long pharmacyId, String key) {
+    return scope.name() + ":" + pharmacyId + ":" + key;
+  }
+
+  private static class Completed {
+
+    private final Long resourceId;
+    private final String requestHash;
+
+    private Completed(Long resourceId, String requestHash) {
+      this.resourceId = resourceId;
+      this.requestHash = requestHash;
+    }
+  }
+}
@@ -0,0 +1,367 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.dto.ReconciliationJobResponse;
+import com.yeahyak.backend.dto.ReconciliationReport;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 잔액/재고 거래 내역(balance_txs, stock_txs)과 현재 잔액/재고(pharmacies, products)가 서로 맞는지 검증합니다.
+ * <p>
+ * 가맹점/제품 ID 범위를 파티션으로 나누어 병렬로 검사하며, 각 파티션은 (가맹점/제품 ID, 생성 시각, 거래 ID) 순서로 거래 내역을 일정
+ * 건수씩 끊어 읽으므로 메모리 사용량은 전체 거래 건수와 무관합니다. 거래 ID는 pooled 시퀀스로 서버마다 구간을 나눠 받으므로 기록 순서와
+ * 다를 수 있습니다. 생성 시각은 잔액/재고 행을 잠근 뒤에 정해지므로 같은 가맹점/제품 안에서는 기록 순서를 따르고, 같은 시각이면 거래 ID로
+ * 정렬합니다. 각 거래의 잔량이 직전 잔량에 거래 금액을 반영한 값과 같은지(CHAIN), 마지막 잔량이 현재 잔액/재고와 같은지(HEAD)를
+ * 확인하며, repair이면 현재 잔액/재고를 마지막 잔량으로 맞춥니다. 거래 내역 자체는 수정하지 않습니다.
+ * <p>
+ * 전체 검사는 요청 스레드를 붙잡지 않도록 백그라운드 작업으로 실행하며, 한 번에 하나만 실행됩니다.
+ */
+@Slf4j
+@Service
+public class LedgerReconciliationService {
+
+  private static final int CHUNK_SIZE = 5000;
+  private static final int PARTITION_SIZE = 1000;
+  private static final int MAX_REPORTED_DRIFTS = 1000;
+
+  /**
+   * 검사 대상 원장입니다. 각 거래의 부호 있는 증감량은 거래 유형으로 계산합니다.
+   */
+  private enum Ledger {
+    BALANCE("balance_txs", "balance_tx_id", "pharmacy_id", "balance_after",
+        "CASE type WHEN 'ORDER' THEN amount ELSE -amount END",
+        "pharmacies", "pharmacy_id", "outstanding_balance"),
+    STOCK("stock_txs", "stock_tx_id", "product_id", "quantity_after",
+        "CASE type WHEN 'ORDER' THEN -amount ELSE amount END",
+        "products", "product_id", "stock_qty");
+
+    private final String table;
+    private final String idColumn;
+    private final String entityColumn;
+    private final String afterColumn;
+    private final String deltaExpression;
+    private final String headTable;
+    private final String headIdColumn;
+    private final String headValueColumn;
+
+    Ledger(String table, String idColumn, String entityColumn, String afterColumn,
+        String deltaExpression, String headTable, String headIdColumn, String headValueColumn) {
+      this.table = table;
+      this.idColumn = idColumn;
+      this.entityColumn = entityColumn;
+      this.afterColumn = afterColumn;
+      this.deltaExpression = deltaExpression;
+      this.headTable = headTable;
+      this.headIdColumn = headIdColumn;
+      this.headValueColumn = headValueColumn;
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int parallelism;
+  private final boolean autoRepair;
+
+  private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("reconciliation-job").daemon().factory());
+  private final AtomicReference<ReconciliationJobResponse> lastJob = new AtomicReference<>();
+
+  public LedgerReconciliationService(
+      JdbcTemplate jdbcTemplate,
+      @Value("${reconciliation.parallelism:4}") int parallelism,
+      @Value("${reconciliation.auto-repair:false}") boolean autoRepair
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.parallelism = parallelism;
+    this.autoRepair = autoRepair;
+  }
+
+  /**
+   * 매일 새벽 전체 원장 검사를 시작합니다.
+   */
+  @Scheduled(cron = "${reconciliation.cron:0 30 3 * * *}")
+  public void reconcileNightly() {
+    startJob(autoRepair);
+  }
+
+  /**
+   * 전체 원장 검사를 백그라운드에서 시작합니다. 이미 실행 중인 작업이 있으면 새로 시작하지 않고 그 작업을 반환합니다.
+   */
+  public ReconciliationJobResponse startJob(boolean repair) {
+    ReconciliationJobResponse job = ReconciliationJobResponse.builder()
+        .status(ReconciliationJobResponse.Status.RUNNING)
+        .repair(repair)
+        .requestedAt(LocalDateTime.now())
+        .build();
+    ReconciliationJobResponse previous = lastJob.getAndUpdate(current ->
+        current != null && current.getStatus() == ReconciliationJobResponse.Status.RUNNING
+            ? current
+            : job);
+    if (previous != null && previous.getStatus() == ReconciliationJobResponse.Status.RUNNING) {
+      return previous;
+    }
+    jobExecutor.submit(() -> runJob(job));
+    return job;
+  }
+
+  /**
+   * 마지막으로 시작한 검사 작업의 상태와 결과를 반환합니다. 한 번도 실행하지 않았으면 null입니다.
+   */
+  public ReconciliationJobResponse getLastJob() {
+    return lastJob.get();
+  }
+
+  private void runJob(ReconciliationJobResponse job) {
+    ReconciliationJobResponse.ReconciliationJobResponseBuilder done = ReconciliationJobResponse
+        .builder()
+        .repair(job.isRepair())
+        .requestedAt(job.getRequestedAt());
+    try {
+      List<ReconciliationReport> reports = reconcile(job.isRepair());
+      for (ReconciliationReport report : reports) {
+        log.info("[LedgerReconciliationService] {} 검사 완료 (rows={}, entities={}, drift={}, repaired={})",
+            report.getLedger(), report.getScannedRows(), report.getCheckedEntities(),
+            report.getDriftCount(), report.getRepairedCount());
+      }
+      done.status(ReconciliationJobResponse.Status.COMPLETED).reports(reports);
+    } catch (RuntimeException e) {
+      log.error("[LedgerReconciliationService] 원장 검사 실패", e);
+      done.status(ReconciliationJobResponse.Status.FAILED).errorMessage(e.getMessage());
+    }
+    lastJob.set(done.finishedAt(LocalDateTime.now()).build());
+  }
+
+  /**
+   * 잔액 원장과 재고 원장을 차례로 검사합니다.
+   */
+  private List<ReconciliationReport> reconcile(boolean repair) {
+    return List.of(reconcile(Ledger.BALANCE, repair), reconcile(Ledger.STOCK, repair));
+  }
+
+  /**
+   * 가맹점(BALANCE) 또는 제품(STOCK) 하나의 원장만 바로 검사합니다. 보정은 하지 않습니다.
+   */
+  public ReconciliationReport reconcileEntity(String ledgerName, long entityId) {
+    Ledger ledger;
+    try {
+      ledger = Ledger.valueOf(ledgerName.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new RuntimeException("원장 종류는 BALANCE 또는 STOCK이어야 합니다.");
+    }
+    LocalDateTime startedAt = LocalDateTime.now();
+    PartitionResult result = verifyPartition(ledger, entityId, entityId, false);
+    return toReport(ledger, List.of(result), startedAt);
+  }
+
+  private ReconciliationReport reconcile(Ledger ledger, boolean repair) {
+    LocalDateTime startedAt = LocalDateTime.now();
+    Map<String, Object> range = jdbcTemplate.queryForMap(
+        "SELECT MIN(" + ledger.headIdColumn + ") AS min_id, MAX(" + ledger.headIdColumn + ") AS max_id"
+            + " FROM " + ledger.headTable);
+    List<PartitionResult> results = new ArrayList<>();
+    if (range.get("min_id") != null) {
+      long minId = ((Number) range.get("min_id")).longValue();
+      long maxId = ((Number) range.get("max_id")).longValue();
+
+      ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+      try {
+        List<Future<PartitionResult>> futures = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += PARTITION_SIZE) {
+          long to = Math.min(from + PARTITION_SIZE - 1, maxId);
+          long partitionFrom = from;
+          futures.add(executor.submit(() -> verifyPartition(ledger, partitionFrom, to, repair)));
+        }
+        for (Future<PartitionResult> future : futures) {
+          results.add(future.get());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("원장 검사가 중단되었습니다.", e);
+      } catch (ExecutionException e) {
+        throw new RuntimeException("원장 검사 중 오류가 발생했습니다.", e.getCause());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    return toReport(ledger, results, startedAt);
+  }
+
+  private ReconciliationReport toReport(
+      Ledger ledger, List<PartitionResult> results, LocalDateTime startedAt
+  ) {
+    List<ReconciliationReport.Drift> drifts = results.stream()
+        .flatMap(result -> result.drifts.stream())
+        .sorted(Comparator.comparing(ReconciliationReport.Drift::getEntityId))
+        .limit(MAX_REPORTED_DRIFTS)
+        .toList();
+    return ReconciliationReport.builder()
+        .ledger(ledger.table)
+        .scannedRows(results.stream().mapToLong(result -> result.scannedRows).sum())
+        .checkedEntities(results.stream().mapToLong(result -> result.checkedEntities).sum())
+        .driftCount(results.stream().mapToLong(result -> result.driftCount).sum())
+        .repairedCount(results.stream().mapToLong(result -> result.repairedCount).sum())
+        .drifts(drifts)
+        .startedAt(startedAt)
+        .finishedAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * [fromId, toId] 범위의 가맹점/제품을 검사합니다. 거래 내역은 (가맹점/제품 ID, 생성 시각, 거래 ID) 키셋으로 CHUNK_SIZE건씩 읽습니다.
+   */
+  private PartitionResult verifyPartition(Ledger ledger, long fromId, long toId, boolean repair) {
+    PartitionResult result = new PartitionResult();
+
+    Map<Long, BigDecimal> heads = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT " + ledger.headIdColumn + ", " + ledger.headValueColumn + " FROM " + ledger.headTable
+            + " WHERE " + ledger.headIdColumn + " BETWEEN ? AND ?",
+        rs -> {
+          heads.put(rs.getLong(1), rs.getBigDecimal(2));
+        },
+        fromId, toId);
+
+    String sql = "SELECT " + ledger.idColumn + ", " + ledger.entityColumn + ", "
+        + ledger.deltaExpression + ", " + ledger.afterColumn + ", created_at"
+        + " FROM " + ledger.table
+        + " WHERE " + ledger.entityColumn + " BETWEEN ? AND ?"
+        + " AND (" + ledger.entityColumn + " > ? OR (" + ledger.entityColumn + " = ? AND"
+        + " (created_at > ? OR (created_at = ? AND " + ledger.idColumn + " > ?))))"
+        + " ORDER BY " + ledger.entityColumn + ", created_at, " + ledger.idColumn
+        + " LIMIT " + CHUNK_SIZE;
+
+    EntityCursor cursor = new EntityCursor(fromId - 1);
+    int fetched;
+    do {
+      int[] count = {0};
+      jdbcTemplate.query(sql,
+          rs -> {
+            count[0]++;
+            long ledgerId = rs.getLong(1);
+            long entityId = rs.getLong(2);
+            BigDecimal delta = rs.getBigDecimal(3);
+            BigDecimal after = rs.getBigDecimal(4);
+            Timestamp createdAt = rs.getTimestamp(5);
+
+            if (entityId != cursor.entityId) {
+              if (cursor.lastAfter != null) {
+                verifyHead(ledger, cursor.entityId, cursor.lastAfter, heads.remove(cursor.entityId),
+                    repair, result);
+              }
+              cursor.entityId = entityId;
+              cursor.lastAfter = null;
+            }
+            if (cursor.lastAfter != null && cursor.lastAfter.add(delta).compareTo(after) != 0) {
+              result.addDrift("CHAIN", entityId, ledgerId, cursor.lastAfter.add(delta), after);
+            }
+            cursor.lastAfter = after;
+            cursor.createdAt = createdAt;
+            cursor.ledgerId = ledgerId;
+            result.scannedRows++;
+          },
+          fromId, toId, cursor.entityId, cursor.entityId, cursor.createdAt, cursor.createdAt,
+          cursor.ledgerId);
+      fetched = count[0];
+    } while (fetched == CHUNK_SIZE);
+
+    if (cursor.lastAfter != null) {
+      verifyHead(ledger, cursor.entityId, cursor.lastAfter, heads.remove(cursor.entityId), repair,
+          result);
+    }
+    // 거래 내역이 하나도 없는 가맹점/제품은 잔액(재고)이 0이어야 합니다. 보관된 거래 내역은 verifyHead에서 다시 확인합니다.
+    heads.forEach((entityId, head) -> verifyHead(ledger, entityId, BigDecimal.ZERO, head, repair,
+        result));
+    return result;
+  }
+
+  /**
+   * 마지막 잔량과 현재 잔액/재고를 비교합니다. 검사 중에도 거래가 계속 생기므로, 어긋나 보이면 두 값을 한 문장으로 다시 읽어 확인합니다.
+   */
+  private void verifyHead(Ledger ledger, long entityId, BigDecimal lastAfter, BigDecimal head,
+      boolean repair, PartitionResult result) {
+    result.checkedEntities++;
+    if (head == null || head.compareTo(lastAfter) == 0) {
+      return;
+    }
+
+    // 거래 내역이 모두 보관 테이블로 옮겨졌으면 보관 테이블의 마지막 잔량과 비교합니다.
+    Map<String, Object> snapshot = jdbcTemplate.queryForMap(
+        "SELECT h." + ledger.headValueColumn + " AS head, COALESCE("
+            + lastAfterSubquery(ledger, ledger.table) + ", "
+            + lastAfterSubquery(ledger, ledger.table + "_archive") + ") AS last_after"
+            + " FROM " + ledger.headTable + " h WHERE h." + ledger.headIdColumn + " = ?",
+        entityId);
+    BigDecimal currentHead = toBigDecimal(snapshot.get("head"));
+    BigDecimal currentLast = snapshot.get("last_after") == null
+        ? BigDecimal.ZERO
+        : toBigDecimal(snapshot.get("last_after"));
+    if (currentHead.compareTo(currentLast) == 0) {
+      return;
+    }
+
+    result.addDrift("HEAD", entityId, null, currentLast, currentHead);
+    if (repair) {
+      // 검사 사이에 값이 바뀌었으면 보정하지 않습니다.
+      int updated = jdbcTemplate.update(
+          "UPDATE " + ledger.headTable + " SET " + ledger.headValueColumn + " = ?"
+              + " WHERE " + ledger.headIdColumn + " = ? AND " + ledger.headValueColumn + " = ?",
+          currentLast, entityId, currentHead);
+      result.repairedCount += updated;
+    }
+  }
+
+  private String lastAfterSubquery(Ledger ledger, String table) {
+    return "(SELECT l." + ledger.afterColumn + " FROM " + table + " l"
+        + " WHERE l." + ledger.entityColumn + " = h." + ledger.headIdColumn
+        + " ORDER BY l.created_at DESC, l." + ledger.idColumn + " DESC LIMIT 1)";
+  }
+
+  private BigDecimal toBigDecimal(Object value) {
+    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+  }
+
+  private static class EntityCursor {
+
+    private long entityId;
+    private Timestamp createdAt = new Timestamp(0);
+    private long ledgerId;
+    private BigDecimal lastAfter;
+
+    private EntityCursor(long entityId) {
+      this.entityId = entityId;
+    }
+  }
+
+  private static class PartitionResult {
+
+    private long scannedRows;
+    private long checkedEntities;
+    private long driftCount;
+    private long repairedCount;
+    private final List<ReconciliationReport.Drift> drifts = new ArrayList<>();
+
+    private void addDrift(String kind, long entityId, Long ledgerId, BigDecimal expected,
+        BigDecimal actual) {
+      driftCount++;
+      if (drifts.size() < MAX_REPORTED_DRIFTS) {
+        drifts.add(new ReconciliationReport.Drift(kind, entityId, ledgerId, expected, actual));
+      }
+    }
+  }
+}
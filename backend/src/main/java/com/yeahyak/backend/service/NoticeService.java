@@ -13,6 +13,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -130,6 +132,24 @@ public class NoticeService {
         .toList();
   }
 
+  /**
+   * 최신 공지사항 목록의 ETag를 만듭니다. 가장 최근 작성/수정 시각과 전체 건수로 만들므로 작성, 수정, 삭제 시 모두 바뀝니다.
+   */
+  @Transactional(readOnly = true)
+  public String getLatestNoticesETag() {
+    NoticeRepository.NoticeVersionProjection version = noticeRepo.findVersion();
+    return "notices-latest-" + version.getCount() + "-"
+        + (version.getLastModified() == null ? 0 : Timestamp.valueOf(version.getLastModified()).getTime());
+  }
+
+  /**
+   * 공지사항의 마지막 작성/수정 시각을 조회합니다. 공지사항이 없으면 null입니다.
+   */
+  @Transactional(readOnly = true)
+  public LocalDateTime getNoticeLastModified(Long noticeId) {
+    return noticeRepo.findLastModifiedById(noticeId).orElse(null);
+  }
+
   @Transactional(readOnly = true)
   public NoticeDetailResponse getNoticeById(Long noticeId) {
     Notice notice = noticeRepo.findById(noticeId)
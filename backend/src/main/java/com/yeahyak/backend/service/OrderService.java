@@ -1,15 +1,19 @@
 package com.yeahyak.backend.service;
 
+import com.yeahyak.backend.dto.BulkUpdateResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.OrderBulkUpdateRequest;
 import com.yeahyak.backend.dto.OrderCreateRequest;
 import com.yeahyak.backend.dto.OrderCreateResponse;
 import com.yeahyak.backend.dto.OrderDetailResponse;
 import com.yeahyak.backend.dto.OrderListResponse;
 import com.yeahyak.backend.dto.OrderUpdateRequest;
+import com.yeahyak.backend.entity.IdempotencyKey;
 import com.yeahyak.backend.entity.OrderItem;
 import com.yeahyak.backend.entity.Orders;
 import com.yeahyak.backend.entity.Pharmacy;
-import com.yeahyak.backend.entity.Product;
 import com.yeahyak.backend.entity.enums.BalanceTxType;
+import com.yeahyak.backend.entity.enums.IdempotencyScope;
 import com.yeahyak.backend.entity.enums.OrderStatus;
 import com.yeahyak.backend.entity.enums.Region;
 import com.yeahyak.backend.entity.enums.StockTxType;
@@ -18,26 +22,39 @@ import com.yeahyak.backend.repository.OrderRepository;
 import com.yeahyak.backend.repository.PharmacyRepository;
 import com.yeahyak.backend.repository.ProductRepository;
 import com.yeahyak.backend.repository.StockTxRepository;
+import com.yeahyak.backend.repository.spec.OrderSpecs;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 발주 요청과 관련된 비즈니스 로직을 처리하는 서비스 클래스입니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+  private static final int BULK_CHUNK_SIZE = 100;
+
   private final OrderRepository orderRepo;
   private final OrderItemRepository orderItemRepo;
   private final PharmacyRepository pharmacyRepo;
@@ -45,12 +62,26 @@ public class OrderService {
   private final StockTxRepository stockTxRepo;
   private final BalanceTxService balanceTxService;
   private final StockTxService stockTxService;
+  private final IdempotencyService idempotencyService;
+  private final TransactionTemplate transactionTemplate;
 
   /**
-   * 발주 요청을 생성합니다.
+   * 발주 요청을 생성합니다. Idempotency-Key로 이미 처리된 요청이 재시도되면 재고/잔액을 변경하지 않고 기존 발주 ID를 반환합니다.
    */
   @Transactional
-  public OrderCreateResponse createOrder(OrderCreateRequest req) {
+  public OrderCreateResponse createOrder(OrderCreateRequest req, String idempotencyKey) {
+    IdempotencyKey idempotency = null;
+    if (idempotencyKey != null) {
+      String requestHash = idempotencyService.hash(req);
+      Long resourceId = idempotencyService.findResourceId(
+          IdempotencyScope.ORDER, req.getPharmacyId(), idempotencyKey, requestHash);
+      if (resourceId != null) {
+        return new OrderCreateResponse(resourceId);
+      }
+      idempotency = idempotencyService.register(
+          IdempotencyScope.ORDER, req.getPharmacyId(), idempotencyKey, requestHash);
+    }
+
     Pharmacy pharmacy = pharmacyRepo.findById(req.getPharmacyId())
         .orElseThrow(() -> new RuntimeException("가맹점 정보를 찾을 수 없습니다."));
 
@@ -58,14 +89,28 @@ public class OrderService {
       throw new RuntimeException("발주 요청 품목이 없습니다.");
     }
 
+    // 동일 제품이 여러 줄로 요청된 경우 수량을 합산합니다.
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (OrderCreateRequest.Item reqItem : req.getItems()) {
+      quantities.merge(reqItem.getProductId(), reqItem.getQuantity(), Integer::sum);
+    }
+
+    // 단가/제품명은 서버마다 따로 두는 기준 정보 캐시가 아니라 이 트랜잭션에서 DB를 직접 읽고, 재고는 아래 createStockTxs에서 잠금
+    // 조회로 확인합니다.
+    Map<Long, ProductRepository.ProductPriceProjection> productMap = productRepo
+        .findPriceByIdIn(quantities.keySet()).stream()
+        .collect(Collectors.toMap(ProductRepository.ProductPriceProjection::getProductId,
+            product -> product));
+    if (productMap.size() != quantities.size()) {
+      throw new RuntimeException("제품 정보를 찾을 수 없습니다.");
+    }
+
     BigDecimal totalPrice = BigDecimal.ZERO;
     List<OrderItem> orderItems = new ArrayList<>();
 
-    for (OrderCreateRequest.Item reqItem : req.getItems()) {
-      Product product = productRepo.findById(reqItem.getProductId())
-          .orElseThrow(() -> new RuntimeException("제품 정보를 찾을 수 없습니다."));
-
-      int quantity = reqItem.getQuantity();
+    for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+      ProductRepository.ProductPriceProjection product = productMap.get(entry.getKey());
+      int quantity = entry.getValue();
 
       BigDecimal unitPrice = product.getUnitPrice();
       BigDecimal subtotalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
@@ -73,21 +118,16 @@ public class OrderService {
 
       OrderItem orderItem = OrderItem.builder()
           .orders(null) // 나중에 세팅
-          .product(product)
+          .product(productRepo.getReferenceById(product.getProductId()))
           .quantity(quantity)
           .unitPrice(unitPrice)
           .subtotalPrice(subtotalPrice)
+          .returnedQty(0)
           .build();
       orderItems.add(orderItem);
     }
 
-    BigDecimal balance = pharmacy.getOutstandingBalance();
-    BigDecimal limit = new BigDecimal("10000000");
-    BigDecimal next = balance.add(totalPrice);
-    if (next.compareTo(limit) > 0) {
-      throw new RuntimeException("외상 한도를 초과합니다.");
-    }
-
+    // 외상 한도 검사와 잔액 증가는 조건부 UPDATE 한 번으로 처리됩니다.
     balanceTxService.createBalanceTx(
         pharmacy.getPharmacyId(), BalanceTxType.ORDER, totalPrice
     );
@@ -96,23 +136,21 @@ public class OrderService {
         .pharmacy(pharmacy)
         .status(OrderStatus.REQUESTED)
         .totalPrice(totalPrice)
+        .itemCount(orderItems.size())
+        .firstProductName(productMap.get(quantities.keySet().iterator().next()).getProductName())
         .build();
     orderRepo.save(orders);
 
-    for (OrderCreateRequest.Item reqItem : req.getItems()) {
-      Product product = productRepo.findById(reqItem.getProductId())
-          .orElseThrow(() -> new RuntimeException("제품 정보를 찾을 수 없습니다."));
-
-      stockTxService.createStockTx(
-          product.getProductId(), StockTxType.ORDER, reqItem.getQuantity()
-      );
-    }
+    stockTxService.createStockTxs(quantities, StockTxType.ORDER);
 
     for (OrderItem orderItem : orderItems) {
       orderItem.setOrders(orders);
     }
     orderItemRepo.saveAll(orderItems);
 
+    if (idempotency != null) {
+      idempotencyService.complete(idempotency, orders.getOrderId());
+    }
     return new OrderCreateResponse(orders.getOrderId());
   }
 
@@ -125,19 +163,59 @@ public class OrderService {
       int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return orderRepo.findByStatusAndRegionAndCreatedAtBetween(
-            status, region, start, end, pageable)
+    Page<Orders> ordersPage = orderRepo.findAll(
+        searchForHq(status, region, start, end), pageable);
+    Map<Long, String> legacySummaries = makeLegacySummaries(ordersPage.getContent());
+    return ordersPage
         .map(orders -> OrderListResponse.builder()
             .orderId(orders.getOrderId())
             .pharmacyId(orders.getPharmacy().getPharmacyId())
             .pharmacyName(orders.getPharmacy().getPharmacyName())
             .status(orders.getStatus())
-            .summary(makeSummary(orders))
+            .summary(makeSummary(orders, legacySummaries))
             .totalPrice(orders.getTotalPrice())
             .createdAt(orders.getCreatedAt())
             .build());
   }
 
+  /**
+   * 본사에서 발주 요청 목록을 커서 기반으로 조회합니다. 전체 건수를 세지 않고, 커서 이후의 (createdAt, orderId) 순서로 다음 묶음만 읽습니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<OrderListResponse> getOrdersByCursor(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end,
+      Cursor cursor, int size
+  ) {
+    Slice<Orders> ordersSlice = orderRepo.findSlice(
+        searchForHq(status, region, start, end).and(OrderSpecs.before(cursor)),
+        Sort.by(Direction.DESC, "createdAt", "orderId"), size);
+    Map<Long, String> legacySummaries = makeLegacySummaries(ordersSlice.getContent());
+    return ordersSlice
+        .map(orders -> OrderListResponse.builder()
+            .orderId(orders.getOrderId())
+            .pharmacyId(orders.getPharmacy().getPharmacyId())
+            .pharmacyName(orders.getPharmacy().getPharmacyName())
+            .status(orders.getStatus())
+            .summary(makeSummary(orders, legacySummaries))
+            .totalPrice(orders.getTotalPrice())
+            .createdAt(orders.getCreatedAt())
+            .build());
+  }
+
+  /**
+   * 본사 목록 조회 조건을 조립합니다. 지정된 조건만 WHERE 절에 포함되며, 가맹점은 목록 조회 시에만 fetch join 합니다.
+   */
+  private Specification<Orders> searchForHq(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    return Specification.allOf(
+        OrderSpecs.fetchPharmacy(),
+        OrderSpecs.status(status),
+        OrderSpecs.region(region),
+        OrderSpecs.createdFrom(start),
+        OrderSpecs.createdTo(end));
+  }
+
   /**
    * 가맹점에서 발주 요청 목록을 조회합니다. 상태를 지정하지 않으면 해당 가맹점의 모든 발주 요청을 조회합니다.
    */
@@ -146,13 +224,18 @@ public class OrderService {
       Long pharmacyId, OrderStatus status, int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return orderRepo.findByPharmacy_PharmacyIdAndStatus(pharmacyId, status, pageable)
+    Page<Orders> ordersPage = orderRepo.findAll(Specification.allOf(
+        OrderSpecs.fetchPharmacy(),
+        OrderSpecs.pharmacyId(pharmacyId),
+        OrderSpecs.status(status)), pageable);
+    Map<Long, String> legacySummaries = makeLegacySummaries(ordersPage.getContent());
+    return ordersPage
         .map(orders -> OrderListResponse.builder()
             .orderId(orders.getOrderId())
             .pharmacyId(pharmacyId)
             .pharmacyName(orders.getPharmacy().getPharmacyName())
             .status(orders.getStatus())
-            .summary(makeSummary(orders))
+            .summary(makeSummary(orders, legacySummaries))
             .totalPrice(orders.getTotalPrice())
             .createdAt(orders.getCreatedAt())
             .build());
@@ -166,7 +249,7 @@ public class OrderService {
     Orders orders = orderRepo.findById(orderId)
         .orElseThrow(() -> new RuntimeException("발주 요청 정보를 찾을 수 없습니다."));
 
-    List<OrderItem> items = orderItemRepo.findByOrders(orders);
+    List<OrderItem> items = orderItemRepo.findWithProductByOrderIds(List.of(orderId));
     List<OrderDetailResponse.Item> itemsList = items.stream()
         .map(item -> OrderDetailResponse.Item.builder()
             .productId(item.getProduct().getProductId())
@@ -176,6 +259,7 @@ public class OrderService {
             .manufacturer(item.getProduct().getManufacturer())
             .productImgUrl(item.getProduct().getProductImgUrl())
             .quantity(item.getQuantity())
+            .returnedQty(item.getReturnedQty())
             .unit(item.getProduct().getUnit())
             .unitPrice(item.getUnitPrice())
             .subtotalPrice(item.getSubtotalPrice())
@@ -195,19 +279,39 @@ public class OrderService {
         .build();
   }
 
-  private String makeSummary(Orders orders) {
-    List<OrderItem> items = orderItemRepo.findByOrders(orders);
-    String firstProductName = items.get(0).getProduct().getProductName();
-    int count = items.size();
-    return (count > 1) ? firstProductName + " 외 " + (count - 1) + "개" : firstProductName;
+  private String makeSummary(Orders orders, Map<Long, String> legacySummaries) {
+    if (orders.getItemCount() == null) {
+      return legacySummaries.get(orders.getOrderId());
+    }
+    return makeSummary(orders.getFirstProductName(), orders.getItemCount());
   }
 
   private String makeSummary(List<OrderItem> items) {
-    String firstProductName = items.get(0).getProduct().getProductName();
-    int count = items.size();
+    return makeSummary(items.get(0).getProduct().getProductName(), items.size());
+  }
+
+  private String makeSummary(String firstProductName, int count) {
     return (count > 1) ? firstProductName + " 외 " + (count - 1) + "개" : firstProductName;
   }
 
+  /**
+   * 요약 컬럼이 없는 이전 발주들의 요약을 한 번의 조회로 만듭니다.
+   */
+  private Map<Long, String> makeLegacySummaries(List<Orders> orders) {
+    List<Long> legacyOrderIds = orders.stream()
+        .filter(o -> o.getItemCount() == null)
+        .map(Orders::getOrderId)
+        .toList();
+    if (legacyOrderIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return orderItemRepo.findWithProductByOrderIds(legacyOrderIds).stream()
+        .collect(Collectors.groupingBy(
+            oi -> oi.getOrders().getOrderId(), LinkedHashMap::new, Collectors.toList()))
+        .entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, e -> makeSummary(e.getValue())));
+  }
+
   /**
    * 발주 요청의 상태를 업데이트합니다. 업데이트 상태가 CANCELED인 경우, 유저의 미정산 잔액을 감소시키고 제품의 재고를 복구합니다.
    */
@@ -216,10 +320,9 @@ public class OrderService {
     Orders orders = orderRepo.findById(orderId)
         .orElseThrow(() -> new RuntimeException("발주 요청 정보를 찾을 수 없습니다."));
 
-    if (orders.getStatus() == OrderStatus.CANCELED) {
-      throw new RuntimeException("이미 취소된 발주 요청입니다.");
-    } else if (orders.getStatus() == OrderStatus.COMPLETED) {
-      throw new RuntimeException("이미 완료된 발주 요청입니다.");
+    String error = checkTransition(orders.getStatus());
+    if (error != null) {
+      throw new RuntimeException(error);
     }
 
     if (req.getStatus() == OrderStatus.CANCELED) {
@@ -239,6 +342,103 @@ public class OrderService {
     orderRepo.save(orders);
   }
 
+  /**
+   * 본사에서 여러 발주 요청의 상태를 한 번에 변경합니다. 전이 가능 여부는 한 번의 조회로 먼저 검증하고, 변경은 일정 건수씩 나눈 트랜잭션으로
+   * 처리합니다. 취소 시 잔액/재고 UPDATE는 묶음 단위로 가맹점별, 제품별로 합산해 한 번에 반영하고, 거래 내역은 단건 취소와 같이 발주마다,
+   * 품목마다 한 건씩 일괄 저장합니다. 묶음 처리 중 오류가 나면 해당 묶음만 한 건씩 다시 처리하므로, 잘못된 발주 하나가 전체 요청을 되돌리지
+   * 않습니다.
+   */
+  public BulkUpdateResponse updateOrderStatuses(OrderBulkUpdateRequest req) {
+    List<Long> orderIds = new ArrayList<>(new LinkedHashSet<>(req.getOrderIds()));
+    Map<Long, OrderStatus> statuses = orderRepo.findStatusesByIds(orderIds).stream()
+        .collect(Collectors.toMap(
+            OrderRepository.OrderStatusProjection::getOrderId,
+            OrderRepository.OrderStatusProjection::getStatus));
+
+    Map<Long, BulkUpdateResponse.Result> results = new LinkedHashMap<>();
+    List<Long> targetIds = new ArrayList<>();
+    for (Long orderId : orderIds) {
+      String error = statuses.containsKey(orderId)
+          ? checkTransition(statuses.get(orderId))
+          : "발주 요청 정보를 찾을 수 없습니다.";
+      if (error != null) {
+        results.put(orderId, BulkUpdateResponse.Result.failure(orderId, error));
+      } else {
+        targetIds.add(orderId);
+      }
+    }
+
+    for (int from = 0; from < targetIds.size(); from += BULK_CHUNK_SIZE) {
+      List<Long> chunk = targetIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetIds.size()));
+      try {
+        transactionTemplate.execute(tx -> applyOrderStatuses(chunk, req.getStatus()))
+            .forEach(result -> results.put(result.getId(), result));
+      } catch (RuntimeException e) {
+        log.warn("[OrderService] 발주 상태 일괄 변경 실패, 건별로 재시도합니다: {}", e.getMessage());
+        for (Long orderId : chunk) {
+          try {
+            transactionTemplate.execute(tx -> applyOrderStatuses(List.of(orderId), req.getStatus()))
+                .forEach(result -> results.put(result.getId(), result));
+          } catch (RuntimeException single) {
+            results.put(orderId, BulkUpdateResponse.Result.failure(orderId, single.getMessage()));
+          }
+        }
+      }
+    }
+
+    return BulkUpdateResponse.of(orderIds.stream().map(results::get).toList());
+  }
+
+  /**
+   * 발주 요청 행을 잠근 뒤 상태를 다시 확인하고 변경합니다. 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+   */
+  private List<BulkUpdateResponse.Result> applyOrderStatuses(List<Long> orderIds, OrderStatus status) {
+    Map<Long, Orders> locked = orderRepo.findAllByIdForUpdate(orderIds).stream()
+        .collect(Collectors.toMap(Orders::getOrderId, orders -> orders));
+
+    List<BulkUpdateResponse.Result> results = new ArrayList<>();
+    List<Orders> targets = new ArrayList<>();
+    for (Long orderId : orderIds) {
+      Orders orders = locked.get(orderId);
+      String error = orders == null
+          ? "발주 요청 정보를 찾을 수 없습니다."
+          : checkTransition(orders.getStatus());
+      if (error != null) {
+        results.add(BulkUpdateResponse.Result.failure(orderId, error));
+      } else {
+        targets.add(orders);
+        results.add(BulkUpdateResponse.Result.success(orderId));
+      }
+    }
+
+    if (status == OrderStatus.CANCELED && !targets.isEmpty()) {
+      List<Map.Entry<Long, BigDecimal>> refunds = targets.stream()
+          .map(orders -> Map.entry(orders.getPharmacy().getPharmacyId(), orders.getTotalPrice()))
+          .toList();
+      balanceTxService.createBalanceTxs(refunds, BalanceTxType.ORDER_CANCEL);
+
+      List<Map.Entry<Long, Integer>> restocks = orderItemRepo.findByOrders_OrderIdIn(
+              targets.stream().map(Orders::getOrderId).toList()).stream()
+          .map(oi -> Map.entry(oi.getProduct().getProductId(), oi.getQuantity()))
+          .toList();
+      stockTxService.createStockTxs(restocks, StockTxType.ORDER_CANCEL);
+    }
+
+    targets.forEach(orders -> orders.setStatus(status));
+    return results;
+  }
+
+  /**
+   * 현재 상태에서 상태를 변경할 수 없으면 그 사유를, 변경할 수 있으면 null을 반환합니다.
+   */
+  private String checkTransition(OrderStatus current) {
+    return switch (current) {
+      case CANCELED -> "이미 취소된 발주 요청입니다.";
+      case COMPLETED -> "이미 완료된 발주 요청입니다.";
+      default -> null;
+    };
+  }
+
   /**
    * 발주 요청을 삭제합니다.
    */
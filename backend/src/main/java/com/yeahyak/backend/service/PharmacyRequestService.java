@@ -11,6 +11,7 @@ import com.yeahyak.backend.repository.AdminRepository;
 import com.yeahyak.backend.repository.PharmacyRepository;
 import com.yeahyak.backend.repository.PharmacyRequestRepository;
 import com.yeahyak.backend.repository.UserRepository;
+import com.yeahyak.backend.repository.spec.PharmacyRequestSpecs;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,8 +37,10 @@ public class PharmacyRequestService {
       PharmacyRequestStatus status, Region region, String keyword, int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "requestedAt"));
-    return pharmacyRequestRepo.findByStatusAndRegionAndPharmacyName(
-        status, region, keyword, pageable
+    return pharmacyRequestRepo.findAll(Specification.allOf(
+        PharmacyRequestSpecs.status(status),
+        PharmacyRequestSpecs.region(region),
+        PharmacyRequestSpecs.pharmacyNameContains(keyword)), pageable
     ).map(pharmacyRequest -> PharmacyRequestListResponse.builder()
         .pharmacyRequestId(pharmacyRequest.getPharmacyRequestId())
         .userId(pharmacyRequest.getUser().getUserId())
@@ -96,6 +100,7 @@ public class PharmacyRequestService {
         .region(pharmacyRequest.getRegion())
         .contact(pharmacyRequest.getContact())
         .outstandingBalance(BigDecimal.ZERO)
+        .creditLimit(Pharmacy.DEFAULT_CREDIT_LIMIT)
         .build();
     pharmacy = pharmacyRepo.save(pharmacy);
 
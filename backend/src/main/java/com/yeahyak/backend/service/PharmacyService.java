@@ -1,22 +1,18 @@
 package com.yeahyak.backend.service;
 
+import com.yeahyak.backend.dto.CreditLimitUpdateRequest;
 import com.yeahyak.backend.dto.PharmacyListResponse;
 import com.yeahyak.backend.entity.Pharmacy;
-import com.yeahyak.backend.entity.enums.BalanceTxType;
 import com.yeahyak.backend.entity.enums.Region;
-import com.yeahyak.backend.repository.BalanceTxRepository;
 import com.yeahyak.backend.repository.PharmacyRepository;
-import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import com.yeahyak.backend.repository.spec.PharmacySpecs;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,27 +21,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class PharmacyService {
 
   private final PharmacyRepository pharmacyRepo;
-  private final BalanceTxRepository balanceTxRepo;
 
   @Transactional(readOnly = true)
   public Page<PharmacyListResponse> getPharmacies(
       Boolean unsettled, Region region, String keyword, int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<Pharmacy> pharmacies = pharmacyRepo.findByUnsettledAndRegionAndPharmacyName(
-        unsettled, region, keyword, pageable
-    );
-    List<Long> pharmacyIds = pharmacies.stream()
-        .map(Pharmacy::getPharmacyId)
-        .toList();
-    final Map<Long, LocalDateTime> latestSettlementMap = pharmacyIds.isEmpty()
-        ? Collections.emptyMap()
-        : balanceTxRepo.findLatestSettlementDateByPharmacyIds(pharmacyIds, BalanceTxType.SETTLEMENT)
-            .stream()
-            .collect(Collectors.toMap(
-                BalanceTxRepository.PharmacyLatestSettlementProjection::getPharmacyId,
-                BalanceTxRepository.PharmacyLatestSettlementProjection::getLatestSettlementAt
-            ));
+    Page<Pharmacy> pharmacies = pharmacyRepo.findAll(Specification.allOf(
+        PharmacySpecs.unsettled(unsettled),
+        PharmacySpecs.region(region),
+        PharmacySpecs.pharmacyNameContains(keyword)), pageable);
     return pharmacies.map(pharmacy -> PharmacyListResponse.builder()
         .pharmacyId(pharmacy.getPharmacyId())
         .pharmacyName(pharmacy.getPharmacyName())
@@ -57,7 +42,16 @@ public class PharmacyService {
         .region(pharmacy.getRegion())
         .contact(pharmacy.getContact())
         .outstandingBalance(pharmacy.getOutstandingBalance())
-        .latestSettlementAt(latestSettlementMap.get(pharmacy.getPharmacyId()))
+        .creditLimit(pharmacy.getCreditLimit())
+        .latestSettlementAt(pharmacy.getLastSettlementAt())
         .build());
   }
+
+  @Transactional
+  public void updateCreditLimit(Long pharmacyId, CreditLimitUpdateRequest req) {
+    Pharmacy pharmacy = pharmacyRepo.findById(pharmacyId)
+        .orElseThrow(() -> new RuntimeException("가맹점 정보를 찾을 수 없습니다."));
+    pharmacy.setCreditLimit(req.getCreditLimit());
+    pharmacyRepo.save(pharmacy);
+  }
 }
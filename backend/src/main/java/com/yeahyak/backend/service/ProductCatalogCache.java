@@ -0,0 +1,243 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.dto.CacheStatsResponse;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.MainCategory;
+import com.yeahyak.backend.entity.enums.SubCategory;
+import com.yeahyak.backend.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 제품 기준 정보(이름, 분류, 단위, 단가, 이미지 등)를 제품 ID와 보험코드로 찾는 프로세스 내 캐시입니다.
+ * <p>
+ * 최대 maxSize개까지 보관하며, 가장 오래 사용하지 않은 제품부터 제거합니다. 재고 수량은 계속 바뀌므로 캐시하지 않으며, 재고가 필요한 곳은
+ * 항상 DB에서 읽어야 합니다. 제품이 수정/삭제되면 트랜잭션 커밋 후 해당 제품을 제거합니다.
+ * <p>
+ * 제거는 수정한 서버에서만 일어나므로, 다른 서버는 읽은 지 ttlSeconds가 지나 다시 읽을 때까지 이전 값을 보여줄 수 있습니다. 단가처럼
+ * 금액에 쓰이는 값은 이 캐시에서 읽지 말고 트랜잭션 안에서 DB를 읽어야 합니다.
+ */
+@Component
+public class ProductCatalogCache {
+
+  /**
+   * 캐시에 보관하는 제품 기준 정보입니다. 재고 수량은 포함하지 않습니다.
+   */
+  @Getter
+  public static class Entry {
+
+    private final Long productId;
+    private final String productName;
+    private final String insuranceCode;
+    private final MainCategory mainCategory;
+    private final SubCategory subCategory;
+    private final String manufacturer;
+    private final String unit;
+    private final BigDecimal unitPrice;
+    private final String details;
+    private final String productImgUrl;
+    private final LocalDateTime createdAt;
+    private final Integer reorderThreshold;
+
+    @Getter(AccessLevel.NONE)
+    private final long loadedAtNanos;
+
+    private Entry(Product product) {
+      this.productId = product.getProductId();
+      this.productName = product.getProductName();
+      this.insuranceCode = product.getInsuranceCode();
+      this.mainCategory = product.getMainCategory();
+      this.subCategory = product.getSubCategory();
+      this.manufacturer = product.getManufacturer();
+      this.unit = product.getUnit();
+      this.unitPrice = product.getUnitPrice();
+      this.details = product.getDetails();
+      this.productImgUrl = product.getProductImgUrl();
+      this.createdAt = product.getCreatedAt();
+      this.reorderThreshold = product.getReorderThreshold();
+      this.loadedAtNanos = System.nanoTime();
+    }
+  }
+
+  private final ProductRepository productRepo;
+  private final int maxSize;
+  private final long ttlSeconds;
+
+  private final Map<Long, Entry> byId;
+  private final Map<String, Long> idByInsuranceCode;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * 무효화가 일어날 때마다 증가합니다. DB에서 읽는 동안 무효화가 있었으면 읽은 값을 캐시에 넣지 않습니다.
+   */
+  private long generation;
+
+  public ProductCatalogCache(
+      ProductRepository productRepo,
+      @Value("${catalog.cache.max-size:5000}") int maxSize,
+      @Value("${catalog.cache.ttl-seconds:60}") long ttlSeconds
+  ) {
+    this.productRepo = productRepo;
+    this.maxSize = maxSize;
+    this.ttlSeconds = ttlSeconds;
+    this.idByInsuranceCode = new LinkedHashMap<>();
+    this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+        if (size() > ProductCatalogCache.this.maxSize) {
+          idByInsuranceCode.remove(eldest.getValue().getInsuranceCode());
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * 제품 ID로 기준 정보를 찾습니다. 없는 제품은 예외를 던집니다.
+   */
+  public Entry get(Long productId) {
+    Entry entry = getAll(List.of(productId)).get(productId);
+    if (entry == null) {
+      throw new RuntimeException("제품을 찾을 수 없습니다.");
+    }
+    return entry;
+  }
+
+  /**
+   * 여러 제품 ID의 기준 정보를 찾습니다. 캐시에 없는 제품만 한 번에 조회하며, 존재하지 않는 제품은 결과에서 빠집니다.
+   */
+  public Map<Long, Entry> getAll(Collection<Long> productIds) {
+    Map<Long, Entry> found = new LinkedHashMap<>();
+    Set<Long> missing = new LinkedHashSet<>();
+    long loadGeneration;
+    synchronized (this) {
+      for (Long productId : productIds) {
+        Entry entry = byId.get(productId);
+        if (isFresh(entry)) {
+          found.put(productId, entry);
+        } else {
+          missing.add(productId);
+        }
+      }
+      loadGeneration = generation;
+    }
+    hits.addAndGet(found.size());
+    misses.addAndGet(missing.size());
+    if (!missing.isEmpty()) {
+      List<Entry> loaded = productRepo.findAllById(missing).stream().map(Entry::new).toList();
+      putAll(loaded, loadGeneration);
+      loaded.forEach(entry -> found.put(entry.getProductId(), entry));
+    }
+    return found;
+  }
+
+  /**
+   * 여러 보험코드의 기준 정보를 보험코드별로 찾습니다. 존재하지 않는 보험코드는 결과에서 빠집니다.
+   */
+  public Map<String, Entry> getAllByInsuranceCodes(Collection<String> insuranceCodes) {
+    Map<String, Entry> found = new LinkedHashMap<>();
+    Set<String> missing = new LinkedHashSet<>();
+    long loadGeneration;
+    synchronized (this) {
+      for (String insuranceCode : insuranceCodes) {
+        Long productId = idByInsuranceCode.get(insuranceCode);
+        Entry entry = productId == null ? null : byId.get(productId);
+        if (isFresh(entry)) {
+          found.put(insuranceCode, entry);
+        } else {
+          missing.add(insuranceCode);
+        }
+      }
+      loadGeneration = generation;
+    }
+    hits.addAndGet(found.size());
+    misses.addAndGet(missing.size());
+    if (!missing.isEmpty()) {
+      List<Entry> loaded = productRepo.findByInsuranceCodeIn(missing).stream().map(Entry::new)
+          .toList();
+      putAll(loaded, loadGeneration);
+      loaded.forEach(entry -> found.put(entry.getInsuranceCode(), entry));
+    }
+    return found;
+  }
+
+  /**
+   * 제품이 수정/삭제되었음을 알립니다. 트랜잭션 안이면 커밋된 뒤에 제거해, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 합니다.
+   */
+  public void evict(Long productId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(productId);
+        }
+      });
+    } else {
+      evictNow(productId);
+    }
+  }
+
+  public CacheStatsResponse getStats() {
+    long hitCount = hits.get();
+    long missCount = misses.get();
+    long requests = hitCount + missCount;
+    int size;
+    synchronized (this) {
+      size = byId.size();
+    }
+    return CacheStatsResponse.builder()
+        .size(size)
+        .maxSize(maxSize)
+        .ttlSeconds(ttlSeconds)
+        .hitCount(hitCount)
+        .missCount(missCount)
+        .evictionCount(evictions.get())
+        .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+        .build();
+  }
+
+  /**
+   * 읽은 지 ttlSeconds가 지난 항목은 없는 것으로 보고 다시 읽습니다. 다시 읽은 값이 같은 키로 덮어씁니다.
+   */
+  private boolean isFresh(Entry entry) {
+    return entry != null
+        && System.nanoTime() - entry.loadedAtNanos < TimeUnit.SECONDS.toNanos(ttlSeconds);
+  }
+
+  private synchronized void putAll(List<Entry> entries, long loadGeneration) {
+    if (loadGeneration != generation) {
+      return;
+    }
+    for (Entry entry : entries) {
+      byId.put(entry.getProductId(), entry);
+      idByInsuranceCode.put(entry.getInsuranceCode(), entry.getProductId());
+    }
+  }
+
+  private synchronized void evictNow(Long productId) {
+    generation++;
+    Entry entry = byId.remove(productId);
+    if (entry != null) {
+      idByInsuranceCode.remove(entry.getInsuranceCode());
+    }
+  }
+}
@@ -0,0 +1,533 @@
+package com.yeahyak.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeahyak.backend.dto.ProductCreateRequest;
+import com.yeahyak.backend.dto.ProductImportResponse;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.StockTxType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * CSV 또는 JSON Lines 파일로 제품을 일괄 등록/수정합니다.
+ * <p>
+ * 요청 본문을 한 행씩 읽으며 검증하고, 검증을 통과한 행을 batchSize개씩 모아 보험코드 기준으로 저장합니다. 새 제품은 일괄 INSERT 후
+ * 입력한 수량만큼 입고 거래 내역을 함께 만들고, 이미 있는 제품은 기준 정보만 수정합니다. 묶음마다 트랜잭션을 따로 쓰므로 뒤 묶음이 실패해도
+ * 앞 묶음의 결과는 유지되며, 메모리에는 한 묶음과 최대 maxErrors개의 오류만 보관합니다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+  /**
+   * 한 행의 최대 길이입니다. 따옴표가 닫히지 않은 CSV가 파일의 나머지 전체를 한 행으로 읽지 않도록 합니다.
+   */
+  private static final int MAX_ROW_CHARS = 5_000_000;
+
+  private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+  private static final String INSERT_SQL = "INSERT INTO products (product_name, insurance_code, "
+      + "main_category, sub_category, manufacturer, unit, unit_price, details, product_img_url, "
+      + "reorder_threshold, stock_qty, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+  // 선택 항목(상세 설명, 이미지, 재주문 기준 수량)은 파일에 값이 없으면 기존 값을 유지합니다.
+  private static final String UPDATE_SQL = "UPDATE products SET product_name = ?, "
+      + "main_category = ?, sub_category = ?, manufacturer = ?, unit = ?, unit_price = ?, "
+      + "details = COALESCE(?, details), product_img_url = COALESCE(?, product_img_url), "
+      + "reorder_threshold = COALESCE(?, reorder_threshold), updated_at = ? WHERE product_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final StockTxService stockTxService;
+  private final ProductCatalogCache productCatalogCache;
+  private final ProductSearchIndex productSearchIndex;
+  private final int batchSize;
+  private final int maxErrors;
+
+  public ProductImportService(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      Validator validator,
+      StockTxService stockTxService,
+      ProductCatalogCache productCatalogCache,
+      ProductSearchIndex productSearchIndex,
+      @Value("${product.import.batch-size:500}") int batchSize,
+      @Value("${product.import.max-errors:1000}") int maxErrors
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.stockTxService = stockTxService;
+    this.productCatalogCache = productCatalogCache;
+    this.productSearchIndex = productSearchIndex;
+    this.batchSize = batchSize;
+    this.maxErrors = maxErrors;
+  }
+
+  /**
+   * 요청 본문의 제품을 등록/수정하고 결과를 반환합니다. CSV는 첫 줄이 제품 생성 요청과 같은 이름의 머리글이어야 하며, JSON Lines는 한 줄에
+   * 제품 생성 요청 하나입니다. 오류의 행 번호는 그 행이 시작되는 줄 번호입니다.
+   */
+  public ProductImportResponse importProducts(InputStream body, String contentType) {
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+    RowSource source;
+    if (TEXT_CSV.includes(mediaType)) {
+      source = new CsvRowSource(reader);
+    } else if (MediaType.APPLICATION_NDJSON.includes(mediaType)) {
+      source = new JsonLinesRowSource(reader);
+    } else {
+      throw new RuntimeException("지원하지 않는 파일 형식입니다.");
+    }
+
+    ImportReport report = new ImportReport(maxErrors);
+    List<Row> chunk = new ArrayList<>(batchSize);
+    Set<String> chunkCodes = new HashSet<>();
+    try {
+      Row row;
+      while ((row = source.next()) != null) {
+        report.totalCount++;
+        String error = row.error != null ? row.error : validate(row.request);
+        if (error != null) {
+          report.fail(row, error);
+          continue;
+        }
+        // 같은 보험코드가 한 묶음에 두 번 나오면 앞 행을 먼저 저장해, 파일의 뒤쪽 행이 최종 값이 되도록 합니다.
+        if (!chunkCodes.add(row.request.getInsuranceCode())) {
+          saveChunk(chunk, report);
+          chunkCodes.clear();
+          chunkCodes.add(row.request.getInsuranceCode());
+        }
+        chunk.add(row);
+        if (chunk.size() >= batchSize) {
+          saveChunk(chunk, report);
+          chunkCodes.clear();
+        }
+      }
+      saveChunk(chunk, report);
+    } catch (IOException e) {
+      log.warn("[ProductImportService] 파일 읽기 실패 (rows={}): {}", report.totalCount, e.getMessage());
+      throw new RuntimeException("파일을 읽을 수 없습니다.");
+    }
+
+    log.info("[ProductImportService] 제품 일괄 등록 완료 (total={}, created={}, updated={}, failed={})",
+        report.totalCount, report.createdCount, report.updatedCount, report.failureCount);
+    return ProductImportResponse.builder()
+        .totalCount(report.totalCount)
+        .createdCount(report.createdCount)
+        .updatedCount(report.updatedCount)
+        .failureCount(report.failureCount)
+        .errorsTruncated(report.errorsTruncated)
+        .errors(report.errors)
+        .build();
+  }
+
+  private String validate(ProductCreateRequest req) {
+    Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(req);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining(", "));
+    }
+    if (req.getSubCategory().getMainCategory() != req.getMainCategory()) {
+      return "subCategory: 대분류에 속하지 않는 소분류입니다.";
+    }
+    return null;
+  }
+
+  /**
+   * 한 묶음을 한 트랜잭션으로 저장하고 비웁니다. 묶음 전체가 실패하면 어느 행 때문인지 알 수 있도록 건별로 다시 저장합니다.
+   */
+  private void saveChunk(List<Row> chunk, ImportReport report) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    try {
+      int created = transactionTemplate.execute(tx -> upsert(chunk));
+      report.createdCount += created;
+      report.updatedCount += chunk.size() - created;
+    } catch (RuntimeException e) {
+      log.warn("[ProductImportService] 제품 일괄 저장 실패, 건별로 재시도합니다: {}", e.getMessage());
+      for (Row row : chunk) {
+        try {
+          int created = transactionTemplate.execute(tx -> upsert(List.of(row)));
+          report.createdCount += created;
+          report.updatedCount += 1 - created;
+        } catch (RuntimeException single) {
+          report.fail(row, single.getMessage());
+        }
+      }
+    }
+    chunk.clear();
+  }
+
+  /**
+   * 보험코드로 기존 제품을 찾아 새 제품은 일괄 INSERT하고 입고 거래 내역을 만들며, 기존 제품은 일괄 UPDATE합니다. 새로 만든 제품 수를
+   * 반환합니다.
+   */
+  private int upsert(List<Row> rows) {
+    Map<String, ExistingProduct> existing = findByInsuranceCodes(
+        rows.stream().map(row -> row.request.getInsuranceCode()).toList());
+    List<ProductCreateRequest> inserts = new ArrayList<>();
+    List<ProductCreateRequest> updates = new ArrayList<>();
+    for (Row row : rows) {
+      (existing.containsKey(row.request.getInsuranceCode()) ? updates : inserts).add(row.request);
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, req) -> {
+        ps.setString(1, req.getProductName());
+        ps.setString(2, req.getInsuranceCode());
+        ps.setString(3, req.getMainCategory().name());
+        ps.setString(4, req.getSubCategory().name());
+        ps.setString(5, req.getManufacturer());
+        ps.setString(6, req.getUnit());
+        ps.setBigDecimal(7, req.getUnitPrice());
+        ps.setString(8, req.getDetails());
+        ps.setString(9, req.getProductImgUrl());
+        ps.setObject(10, req.getReorderThreshold(), Types.INTEGER);
+        ps.setTimestamp(11, now);
+        ps.setTimestamp(12, now);
+      });
+    }
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, req) -> {
+        ps.setString(1, req.getProductName());
+        ps.setString(2, req.getMainCategory().name());
+        ps.setString(3, req.getSubCategory().name());
+        ps.setString(4, req.getManufacturer());
+        ps.setString(5, req.getUnit());
+        ps.setBigDecimal(6, req.getUnitPrice());
+        ps.setString(7, req.getDetails());
+        ps.setString(8, req.getProductImgUrl());
+        ps.setObject(9, req.getReorderThreshold(), Types.INTEGER);
+        ps.setTimestamp(10, now);
+        ps.setLong(11, existing.get(req.getInsuranceCode()).productId);
+      });
+    }
+
+    Map<String, ExistingProduct> created = inserts.isEmpty()
+        ? Map.of()
+        : findByInsuranceCodes(inserts.stream().map(ProductCreateRequest::getInsuranceCode).toList());
+    Map<Long, Integer> stockIns = new LinkedHashMap<>();
+    for (ProductCreateRequest req : inserts) {
+      stockIns.put(created.get(req.getInsuranceCode()).productId, req.getStockQty());
+    }
+    stockTxService.createStockTxs(stockIns, StockTxType.IN);
+
+    // 캐시와 검색 색인은 커밋된 뒤에 반영됩니다.
+    for (ProductCreateRequest req : inserts) {
+      productSearchIndex.index(toProduct(req, created.get(req.getInsuranceCode())));
+    }
+    for (ProductCreateRequest req : updates) {
+      ExistingProduct product = existing.get(req.getInsuranceCode());
+      productCatalogCache.evict(product.productId);
+      productSearchIndex.index(toProduct(req, product));
+    }
+    return inserts.size();
+  }
+
+  private Map<String, ExistingProduct> findByInsuranceCodes(Collection<String> insuranceCodes) {
+    String placeholders = String.join(", ", Collections.nCopies(insuranceCodes.size(), "?"));
+    Map<String, ExistingProduct> products = new HashMap<>();
+    jdbcTemplate.query(
+            "SELECT product_id, insurance_code, created_at FROM products"
+                + " WHERE insurance_code IN (" + placeholders + ")",
+            (rs, rowNum) -> new ExistingProduct(rs.getLong(1), rs.getString(2),
+                rs.getTimestamp(3).toLocalDateTime()),
+            insuranceCodes.toArray())
+        .forEach(product -> products.put(product.insuranceCode, product));
+    return products;
+  }
+
+  private Product toProduct(ProductCreateRequest req, ExistingProduct product) {
+    return Product.builder()
+        .productId(product.productId)
+        .productName(req.getProductName())
+        .insuranceCode(req.getInsuranceCode())
+        .mainCategory(req.getMainCategory())
+        .subCategory(req.getSubCategory())
+        .manufacturer(req.getManufacturer())
+        .createdAt(product.createdAt)
+        .build();
+  }
+
+  /**
+   * Jackson 오류 메시지 대신 어느 항목의 형식이 틀렸는지만 알려줍니다.
+   */
+  private static String describe(Exception e) {
+    Throwable cause = e instanceof IllegalArgumentException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+        && mapping.getPath().get(0).getFieldName() != null) {
+      return mapping.getPath().get(0).getFieldName() + ": 값의 형식이 올바르지 않습니다.";
+    }
+    return "행의 형식이 올바르지 않습니다.";
+  }
+
+  private interface RowSource {
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뛰며, 파일 끝이면 null입니다.
+     */
+    Row next() throws IOException;
+  }
+
+  /**
+   * 첫 줄을 머리글로 읽는 CSV입니다. 큰따옴표로 감싼 값에는 쉼표, 줄바꿈, 두 번 쓴 큰따옴표를 넣을 수 있습니다.
+   */
+  private class CsvRowSource implements RowSource {
+
+    private final BufferedReader reader;
+    private List<String> header;
+    private long lineNumber = 1;
+    private boolean finished;
+    private String fatalError;
+
+    private CsvRowSource(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+      while (!finished) {
+        long rowNumber = lineNumber;
+        List<String> fields = readRecord();
+        if (fatalError != null) {
+          return Row.failure(rowNumber, fatalError);
+        }
+        if (fields == null) {
+          return null;
+        }
+        if (fields.size() == 1 && fields.get(0).isBlank()) {
+          continue;
+        }
+        if (header == null) {
+          header = fields.stream().map(name -> name.replace("\uFEFF", "").strip()).toList();
+          continue;
+        }
+        if (fields.size() != header.size()) {
+          return Row.failure(rowNumber, "열 개수가 머리글과 다릅니다.");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+          if (!fields.get(i).isBlank()) {
+            values.put(header.get(i), fields.get(i).strip());
+          }
+        }
+        try {
+          return Row.success(rowNumber, objectMapper.convertValue(values, ProductCreateRequest.class));
+        } catch (IllegalArgumentException e) {
+          return Row.failure(rowNumber, describe(e));
+        }
+      }
+      return null;
+    }
+
+    /**
+     * 레코드 하나를 읽습니다. 파일 끝이면 null이며, 더 읽을 수 없는 오류가 있으면 fatalError를 남기고 null을 반환합니다.
+     */
+    private List<String> readRecord() throws IOException {
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+      int length = 0;
+      int c = reader.read();
+      if (c == -1) {
+        finished = true;
+        return null;
+      }
+      while (true) {
+        if (c == -1) {
+          finished = true;
+          if (quoted) {
+            fatalError = "따옴표가 닫히지 않았습니다.";
+            return null;
+          }
+          fields.add(field.toString());
+          return fields;
+        }
+        if (++length > MAX_ROW_CHARS) {
+          finished = true;
+          fatalError = "행이 너무 깁니다. 이후 행은 읽지 않았습니다.";
+          return null;
+        }
+        if (c == '\n') {
+          lineNumber++;
+        }
+        if (quoted) {
+          if (c == '"') {
+            reader.mark(1);
+            if (reader.read() == '"') {
+              field.append('"');
+            } else {
+              reader.reset();
+              quoted = false;
+            }
+          } else {
+            field.append((char) c);
+          }
+        } else if (c == '"' && field.length() == 0) {
+          quoted = true;
+        } else if (c == ',') {
+          fields.add(field.toString());
+          field.setLength(0);
+        } else if (c == '\n') {
+          fields.add(field.toString());
+          return fields;
+        } else if (c != '\r') {
+          field.append((char) c);
+        }
+        c = reader.read();
+      }
+    }
+  }
+
+  /**
+   * 한 줄에 JSON 객체 하나인 JSON Lines입니다.
+   */
+  private class JsonLinesRowSource implements RowSource {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    private JsonLinesRowSource(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+      String line;
+      do {
+        line = readLine();
+        if (line == null) {
+          return null;
+        }
+      } while (line.isBlank());
+      if (line.length() > MAX_ROW_CHARS) {
+        return Row.failure(lineNumber, "행이 너무 깁니다.");
+      }
+      try {
+        return Row.success(lineNumber,
+            objectMapper.readValue(line.replace("\uFEFF", ""), ProductCreateRequest.class));
+      } catch (JsonProcessingException e) {
+        return Row.failure(lineNumber, describe(e));
+      }
+    }
+
+    /**
+     * 한 줄을 읽습니다. 최대 길이를 넘는 부분은 버리고 넘었다는 것만 알 수 있도록 한 글자를 더 남깁니다.
+     */
+    private String readLine() throws IOException {
+      int c = reader.read();
+      if (c == -1) {
+        return null;
+      }
+      lineNumber++;
+      StringBuilder line = new StringBuilder();
+      while (c != -1 && c != '\n') {
+        if (line.length() <= MAX_ROW_CHARS && c != '\r') {
+          line.append((char) c);
+        }
+        c = reader.read();
+      }
+      return line.toString();
+    }
+  }
+
+  private static class Row {
+
+    private final long rowNumber;
+    private final ProductCreateRequest request;
+    private final String error;
+
+    private Row(long rowNumber, ProductCreateRequest request, String error) {
+      this.rowNumber = rowNumber;
+      this.request = request;
+      this.error = error;
+    }
+
+    private static Row success(long rowNumber, ProductCreateRequest request) {
+      return new Row(rowNumber, request, null);
+    }
+
+    private static Row failure(long rowNumber, String error) {
+      return new Row(rowNumber, null, error);
+    }
+  }
+
+  private static class ExistingProduct {
+
+    private final Long productId;
+    private final String insuranceCode;
+    private final LocalDateTime createdAt;
+
+    private ExistingProduct(Long productId, String insuranceCode, LocalDateTime createdAt) {
+      this.productId = productId;
+      this.insuranceCode = insuranceCode;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private static class ImportReport {
+
+    private final int maxErrors;
+    private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+    private long totalCount;
+    private long createdCount;
+    private long updatedCount;
+    private long failureCount;
+    private boolean errorsTruncated;
+
+    private ImportReport(int maxErrors) {
+      this.maxErrors = maxErrors;
+    }
+
+    private void fail(Row row, String message) {
+      failureCount++;
+      if (errors.size() >= maxErrors) {
+        errorsTruncated = true;
+        return;
+      }
+      errors.add(ProductImportResponse.RowError.builder()
+          .rowNumber(row.rowNumber)
+          .insuranceCode(row.request != null ? row.request.getInsuranceCode() : null)
+          .message(message)
+          .build());
+    }
+  }
+}
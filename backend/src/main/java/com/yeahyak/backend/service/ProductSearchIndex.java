@@ -0,0 +1,298 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.MainCategory;
+import com.yeahyak.backend.entity.enums.SubCategory;
+import com.yeahyak.backend.repository.ProductRepository;
+import com.yeahyak.backend.repository.ProductRepository.ProductSearchProjection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 제품명, 제조사, 보험코드를 대상으로 하는 메모리 내 n-gram 역색인입니다.
+ * <p>
+ * 공백을 제거하고 소문자로 바꾼 각 필드를 1글자(unigram)와 2글자(bigram) 단위로 색인합니다. 검색어의 모든 bigram을 포함하는 제품만
+ * 후보로 삼은 뒤 실제로 검색어를 포함하는지 확인하므로, "타이레"처럼 한글 이름의 일부만 입력해도 DB 조회 없이 찾을 수 있습니다. 제품이
+ * 생성/수정/삭제되면 커밋 후 해당 제품만 다시 색인하며, 다른 서버에서 변경된 제품도 반영되도록 주기적으로 전체를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex implements SmartInitializingSingleton {
+
+  /**
+   * 색인된 제품 한 건입니다. 검색 조건과 정렬에 필요한 값만 보관합니다.
+   */
+  private static class Document {
+
+    private final Long productId;
+    private final String productName;
+    private final String manufacturer;
+    private final String insuranceCode;
+    private final MainCategory mainCategory;
+    private final SubCategory subCategory;
+    private final LocalDateTime createdAt;
+
+    private Document(Long productId, String productName, String manufacturer,
+        String insuranceCode, MainCategory mainCategory, SubCategory subCategory,
+        LocalDateTime createdAt) {
+      this.productId = productId;
+      this.productName = normalize(productName);
+      this.manufacturer = normalize(manufacturer);
+      this.insuranceCode = normalize(insuranceCode);
+      this.mainCategory = mainCategory;
+      this.subCategory = subCategory;
+      this.createdAt = createdAt;
+    }
+
+    private Set<String> grams() {
+      Set<String> grams = new HashSet<>();
+      addGrams(productName, grams);
+      addGrams(manufacturer, grams);
+      addGrams(insuranceCode, grams);
+      return grams;
+    }
+
+    /**
+     * 제품명 전방 일치, 제품명 포함, 보험코드, 제조사 순으로 높은 점수를 줍니다. 검색어를 포함하지 않으면 0입니다.
+     */
+    private int score(String query) {
+      if (productName.startsWith(query)) {
+        return 4;
+      }
+      if (productName.contains(query)) {
+        return 3;
+      }
+      if (insuranceCode.contains(query)) {
+        return 2;
+      }
+      if (manufacturer.contains(query)) {
+        return 1;
+      }
+      return 0;
+    }
+  }
+
+  private final ProductRepository productRepo;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+
+  /**
+   * 전체 재색인 중에 반영된 변경입니다. 값이 null이면 삭제입니다. 재색인이 끝나면 새 색인에 다시 적용합니다.
+   */
+  private Map<Long, Document> changesDuringRebuild;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    rebuild();
+  }
+
+  /**
+   * DB의 전체 제품으로 색인을 다시 만듭니다. 새 색인을 만든 뒤 한 번에 교체하므로 그동안의 검색은 이전 색인을 사용합니다.
+   */
+  @Scheduled(
+      fixedDelayString = "${search.index.refresh-ms:600000}",
+      initialDelayString = "${search.index.refresh-ms:600000}")
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    Map<Long, Document> newDocuments = new HashMap<>();
+    Map<String, Set<Long>> newPostings = new HashMap<>();
+    for (ProductSearchProjection p : productRepo.findAllForSearch()) {
+      Document document = new Document(p.getProductId(), p.getProductName(), p.getManufacturer(),
+          p.getInsuranceCode(), p.getMainCategory(), p.getSubCategory(), p.getCreatedAt());
+      newDocuments.put(document.productId, document);
+      for (String gram : document.grams()) {
+        newPostings.computeIfAbsent(gram, k -> new HashSet<>()).add(document.productId);
+      }
+    }
+
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      documents.putAll(newDocuments);
+      postings.clear();
+      postings.putAll(newPostings);
+      changesDuringRebuild.forEach(this::apply);
+      changesDuringRebuild = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("[ProductSearchIndex] 색인 완료 (products={}, grams={})", newDocuments.size(),
+        newPostings.size());
+  }
+
+  /**
+   * 제품이 생성/수정되었음을 알립니다. 트랜잭션 안이면 커밋된 뒤에 반영합니다.
+   */
+  public void index(Product product) {
+    Document document = new Document(product.getProductId(), product.getProductName(),
+        product.getManufacturer(), product.getInsuranceCode(), product.getMainCategory(),
+        product.getSubCategory(), product.getCreatedAt());
+    afterCommit(() -> applyChange(document.productId, document));
+  }
+
+  /**
+   * 제품이 삭제되었음을 알립니다. 트랜잭션 안이면 커밋된 뒤에 반영합니다.
+   */
+  public void remove(Long productId) {
+    afterCommit(() -> applyChange(productId, null));
+  }
+
+  /**
+   * 검색어를 포함하는 제품 ID를 관련도순으로 반환합니다. 관련도가 같으면 최근 등록된 제품이 먼저 옵니다.
+   */
+  public List<Long> search(String keyword, MainCategory mainCategory, SubCategory subCategory) {
+    String query = normalize(keyword);
+    if (query.isEmpty()) {
+      return List.of();
+    }
+    Set<String> grams = new LinkedHashSet<>();
+    if (query.length() == 1) {
+      grams.add(query);
+    } else {
+      addBigrams(query, grams);
+    }
+
+    List<Document> matches = new ArrayList<>();
+    Map<Long, Integer> scores = new HashMap<>();
+    lock.readLock().lock();
+    try {
+      // 가장 짧은 postings부터 교집합을 구합니다.
+      List<Set<Long>> lists = new ArrayList<>();
+      for (String gram : grams) {
+        Set<Long> ids = postings.get(gram);
+        if (ids == null) {
+          return List.of();
+        }
+        lists.add(ids);
+      }
+      lists.sort(Comparator.comparingInt(Set::size));
+
+      for (Long productId : lists.get(0)) {
+        boolean inAll = true;
+        for (int i = 1; i < lists.size() && inAll; i++) {
+          inAll = lists.get(i).contains(productId);
+        }
+        if (!inAll) {
+          continue;
+        }
+        Document document = documents.get(productId);
+        if ((mainCategory != null && document.mainCategory != mainCategory)
+            || (subCategory != null && document.subCategory != subCategory)) {
+          continue;
+        }
+        // bigram이 모두 있어도 연속해서 나오지 않을 수 있으므로 실제 포함 여부를 확인합니다.
+        int score = document.score(query);
+        if (score > 0) {
+          matches.add(document);
+          scores.put(productId, score);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    Comparator<Document> createdAtDesc = Comparator.comparing(
+        (Document d) -> d.createdAt, Comparator.nullsLast(Comparator.reverseOrder()));
+    matches.sort(Comparator.comparing((Document d) -> scores.get(d.productId)).reversed()
+        .thenComparing(createdAtDesc)
+        .thenComparing(d -> d.productId, Comparator.reverseOrder()));
+    return matches.stream().map(d -> d.productId).toList();
+  }
+
+  private void applyChange(Long productId, Document document) {
+    lock.writeLock().lock();
+    try {
+      apply(productId, document);
+      if (changesDuringRebuild != null) {
+        changesDuringRebuild.put(productId, document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 제품 한 건을 색인에서 지우고, document가 있으면 다시 색인합니다. 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+   */
+  private void apply(Long productId, Document document) {
+    removeDocument(productId);
+    if (document != null) {
+      documents.put(productId, document);
+      for (String gram : document.grams()) {
+        postings.computeIfAbsent(gram, k -> new HashSet<>()).add(productId);
+      }
+    }
+  }
+
+  private void removeDocument(Long productId) {
+    Document previous = documents.remove(productId);
+    if (previous == null) {
+      return;
+    }
+    for (String gram : previous.grams()) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null) {
+        ids.remove(productId);
+        if (ids.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static void addGrams(String value, Set<String> grams) {
+    for (int i = 0; i < value.length(); i++) {
+      grams.add(value.substring(i, i + 1));
+    }
+    addBigrams(value, grams);
+  }
+
+  private static void addBigrams(String value, Set<String> grams) {
+    for (int i = 0; i + 2 <= value.length(); i++) {
+      grams.add(value.substring(i, i + 2));
+    }
+  }
+}
@@ -10,18 +10,22 @@ import com.yeahyak.backend.entity.enums.MainCategory;
 import com.yeahyak.backend.entity.enums.StockTxType;
 import com.yeahyak.backend.entity.enums.SubCategory;
 import com.yeahyak.backend.repository.ProductRepository;
-import com.yeahyak.backend.repository.StockTxRepository;
+import com.yeahyak.backend.repository.spec.ProductSpecs;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +33,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProductService {
 
+  private static final int STOCK_CHUNK_SIZE = 500;
+
   private final ProductRepository productRepo;
-  private final StockTxRepository stockTxRepo;
   private final StockTxService stockTxService;
+  private final ProductCatalogCache productCatalogCache;
+  private final ProductSearchIndex productSearchIndex;
 
   @Transactional
   public ProductCreateResponse createProduct(ProductCreateRequest req) {
@@ -46,8 +53,10 @@ public class ProductService {
         .details(req.getDetails())
         .productImgUrl(req.getProductImgUrl())
         .stockQty(0)
+        .reorderThreshold(req.getReorderThreshold())
         .build();
     productRepo.save(product);
+    productSearchIndex.index(product);
 
     long stockTxId = stockTxService.createStockTx(
         product.getProductId(), StockTxType.IN, req.getStockQty()
@@ -60,33 +69,114 @@ public class ProductService {
       MainCategory mainCategory, SubCategory subCategory, String keyword, int stockQtyThreshold,
       int page, int size
   ) {
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<Product> products = productRepo.findByMainCategoryAndSubCategoryAndProductNameAndStockQty(
-        mainCategory, subCategory, keyword, stockQtyThreshold, pageable
-    );
-    List<Long> productIds = products.stream()
-        .map(Product::getProductId)
+    return keyword != null && !keyword.isBlank()
+        ? searchProducts(mainCategory, subCategory, keyword, stockQtyThreshold, page, size)
+        : productRepo.findAll(Specification.allOf(
+                ProductSpecs.mainCategory(mainCategory),
+                ProductSpecs.subCategory(subCategory),
+                ProductSpecs.stockQtyAtMost(stockQtyThreshold)),
+            PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt")))
+        .map(product -> ProductListResponse.builder()
+            .productId(product.getProductId())
+            .productName(product.getProductName())
+            .manufacturer(product.getManufacturer())
+            .unit(product.getUnit())
+            .unitPrice(product.getUnitPrice())
+            .productImgUrl(product.getProductImgUrl())
+            .stockQty(product.getStockQty())
+            .latestStockInAt(product.getLastStockInAt())
+            .build());
+  }
+
+  /**
+   * 검색어가 있으면 DB의 LIKE 검색 대신 메모리 색인으로 관련도순 제품 ID를 구합니다. 재고 조건은 실시간 값이어야 하므로 DB에서 확인하며,
+   * 후보를 관련도순으로 STOCK_CHUNK_SIZE개씩 나눠 조건에 맞는 제품의 재고만 읽습니다. 요청한 페이지가 채워진 뒤의 후보는 전체 건수만
+   * 셉니다. 나머지 표시 정보는 제품 기준 정보 캐시에서 가져옵니다.
+   */
+  private Page<ProductListResponse> searchProducts(
+      MainCategory mainCategory, SubCategory subCategory, String keyword, int stockQtyThreshold,
+      int page, int size
+  ) {
+    Pageable pageable = PageRequest.of(page, size);
+    List<Long> ranked = productSearchIndex.search(keyword, mainCategory, subCategory);
+    if (ranked.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    long offset = pageable.getOffset();
+    long total = 0;
+    Map<Long, ProductRepository.ProductStockProjection> stockMap = new LinkedHashMap<>();
+    for (int from = 0; from < ranked.size(); from += STOCK_CHUNK_SIZE) {
+      List<Long> chunk = ranked.subList(from, Math.min(from + STOCK_CHUNK_SIZE, ranked.size()));
+      if (total >= offset + size) {
+        total += productRepo.countByIdInAndStockQtyAtMost(chunk, stockQtyThreshold);
+        continue;
+      }
+      Map<Long, ProductRepository.ProductStockProjection> chunkStocks = productRepo
+          .findStockByIdInAndStockQtyAtMost(chunk, stockQtyThreshold).stream()
+          .collect(Collectors.toMap(
+              ProductRepository.ProductStockProjection::getProductId, stock -> stock));
+      for (Long productId : chunk) {
+        ProductRepository.ProductStockProjection stock = chunkStocks.get(productId);
+        if (stock == null) {
+          continue;
+        }
+        if (total >= offset && total < offset + size) {
+          stockMap.put(productId, stock);
+        }
+        total++;
+      }
+    }
+
+    List<Long> pageIds = new ArrayList<>(stockMap.keySet());
+    Map<Long, ProductCatalogCache.Entry> entries = productCatalogCache.getAll(pageIds);
+    List<ProductListResponse> content = pageIds.stream()
+        .filter(entries::containsKey)
+        .map(productId -> {
+          ProductCatalogCache.Entry product = entries.get(productId);
+          return ProductListResponse.builder()
+              .productId(productId)
+              .productName(product.getProductName())
+              .manufacturer(product.getManufacturer())
+              .unit(product.getUnit())
+              .unitPrice(product.getUnitPrice())
+              .productImgUrl(product.getProductImgUrl())
+              .stockQty(stockMap.get(productId).getStockQty())
+              .latestStockInAt(stockMap.get(productId).getLastStockInAt())
+              .build();
+        })
         .toList();
-    final Map<Long, LocalDateTime> latestInMap = productIds.isEmpty()
-        ? Collections.emptyMap()
-        : stockTxRepo.findLatestInDatesByProductIds(productIds, StockTxType.IN).stream()
-            .collect(Collectors.toMap(
-                StockTxRepository.ProductLatestInProjection::getProductId,
-                StockTxRepository.ProductLatestInProjection::getLatestInAt
-            ));
-
-    return products.map(product -> ProductListResponse.builder()
-        .productId(product.getProductId())
-        .productName(product.getProductName())
-        .manufacturer(product.getManufacturer())
-        .unit(product.getUnit())
-        .unitPrice(product.getUnitPrice())
-        .productImgUrl(product.getProductImgUrl())
-        .stockQty(product.getStockQty())
-        .latestStockInAt(latestInMap.get(product.getProductId()))
-        .build());
+    return new PageImpl<>(content, pageable, total);
   }
 
+  /**
+   * 제품 상세 응답의 ETag를 만듭니다. 상세에 재고 수량이 포함되므로 기준 정보 수정 시각과 재고 수량으로 만들며, 제품이 없으면 null입니다.
+   */
+  @Transactional(readOnly = true)
+  public String getProductETag(Long productId) {
+    return productRepo.findVersionById(productId)
+        .map(version -> eTag(productId, version.getUpdatedAt(), version.getStockQty()))
+        .orElse(null);
+  }
+
+  /**
+   * 이미 만든 제품 상세 응답의 ETag를 만듭니다. 상세와 같은 조회에서 읽은 값으로 만들므로 본문과 ETag가 항상 짝이 맞습니다.
+   */
+  public String getProductETag(ProductDetailResponse detail) {
+    LocalDateTime updatedAt = detail.getUpdatedAt() != null
+        ? detail.getUpdatedAt()
+        : detail.getCreatedAt();
+    return eTag(detail.getProductId(), updatedAt, detail.getStockQty());
+  }
+
+  private String eTag(Long productId, LocalDateTime updatedAt, Integer stockQty) {
+    return "product-" + productId + "-" + Timestamp.valueOf(updatedAt).getTime() + "-" + stockQty;
+  }
+
+  /**
+   * 제품 상세를 조회합니다. 서버마다 따로 두는 기준 정보 캐시는 다른 서버의 수정을 늦게 반영하므로, ETag와 어긋나지 않도록 DB에서 바로
+   * 읽습니다.
+   */
   @Transactional(readOnly = true)
   public ProductDetailResponse getProductById(Long productId) {
     Product product = productRepo.findById(productId)
@@ -103,7 +193,9 @@ public class ProductService {
         .details(product.getDetails())
         .productImgUrl(product.getProductImgUrl())
         .createdAt(product.getCreatedAt())
+        .updatedAt(product.getUpdatedAt())
         .stockQty(product.getStockQty())
+        .reorderThreshold(product.getReorderThreshold())
         .build();
   }
 
@@ -138,7 +230,12 @@ public class ProductService {
     if (req.getProductImgUrl() != null) {
       product.setProductImgUrl(req.getProductImgUrl());
     }
+    if (req.getReorderThreshold() != null) {
+      product.setReorderThreshold(req.getReorderThreshold());
+    }
     productRepo.save(product);
+    productCatalogCache.evict(productId);
+    productSearchIndex.index(product);
   }
 
   @Transactional
@@ -149,5 +246,7 @@ public class ProductService {
       throw new RuntimeException("재고가 남아 있어 삭제할 수 없습니다.");
     }
     productRepo.delete(product);
+    productCatalogCache.evict(productId);
+    productSearchIndex.remove(productId);
   }
 }
@@ -1,64 +1,92 @@
 package com.yeahyak.backend.service;
 
+import com.yeahyak.backend.dto.BulkUpdateResponse;
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.ReturnBulkCompleteRequest;
 import com.yeahyak.backend.dto.ReturnCreateRequest;
 import com.yeahyak.backend.dto.ReturnCreateResponse;
 import com.yeahyak.backend.dto.ReturnDetailResponse;
 import com.yeahyak.backend.dto.ReturnListResponse;
 import com.yeahyak.backend.dto.ReturnUpdateRequest;
+import com.yeahyak.backend.dto.ReturnedQtyDriftResponse;
+import com.yeahyak.backend.entity.IdempotencyKey;
 import com.yeahyak.backend.entity.OrderItem;
 import com.yeahyak.backend.entity.Orders;
 import com.yeahyak.backend.entity.Pharmacy;
-import com.yeahyak.backend.entity.Product;
 import com.yeahyak.backend.entity.ReturnItem;
 import com.yeahyak.backend.entity.Returns;
 import com.yeahyak.backend.entity.enums.BalanceTxType;
+import com.yeahyak.backend.entity.enums.IdempotencyScope;
 import com.yeahyak.backend.entity.enums.Region;
 import com.yeahyak.backend.entity.enums.ReturnStatus;
 import com.yeahyak.backend.entity.enums.StockTxType;
 import com.yeahyak.backend.repository.OrderItemRepository;
 import com.yeahyak.backend.repository.OrderRepository;
 import com.yeahyak.backend.repository.PharmacyRepository;
-import com.yeahyak.backend.repository.ProductRepository;
 import com.yeahyak.backend.repository.ReturnItemRepository;
 import com.yeahyak.backend.repository.ReturnRepository;
 import com.yeahyak.backend.repository.StockTxRepository;
+import com.yeahyak.backend.repository.spec.ReturnSpecs;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 반품 요청과 관련된 비즈니스 로직을 처리하는 서비스 클래스입니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReturnService {
 
+  private static final int BULK_CHUNK_SIZE = 100;
+
   private final ReturnRepository returnRepo;
   private final ReturnItemRepository returnItemRepo;
   private final OrderRepository orderRepo;
   private final OrderItemRepository orderItemRepo;
   private final PharmacyRepository pharmacyRepo;
-  private final ProductRepository productRepo;
   private final StockTxRepository stockTxRepo;
   private final BalanceTxService balanceTxService;
   private final StockTxService stockTxService;
+  private final IdempotencyService idempotencyService;
+  private final TransactionTemplate transactionTemplate;
 
   /**
-   * 반품 요청을 생성합니다.
+   * 반품 요청을 생성합니다. Idempotency-Key로 이미 처리된 요청이 재시도되면 반품을 새로 만들지 않고 기존 반품 ID를 반환합니다.
    */
   @Transactional
-  public ReturnCreateResponse createReturn(ReturnCreateRequest req) {
+  public ReturnCreateResponse createReturn(ReturnCreateRequest req, String idempotencyKey) {
+    IdempotencyKey idempotency = null;
+    if (idempotencyKey != null) {
+      String requestHash = idempotencyService.hash(req);
+      Long resourceId = idempotencyService.findResourceId(
+          IdempotencyScope.RETURN, req.getPharmacyId(), idempotencyKey, requestHash);
+      if (resourceId != null) {
+        return new ReturnCreateResponse(resourceId);
+      }
+      idempotency = idempotencyService.register(
+          IdempotencyScope.RETURN, req.getPharmacyId(), idempotencyKey, requestHash);
+    }
+
     Pharmacy pharmacy = pharmacyRepo.findById(req.getPharmacyId())
         .orElseThrow(() -> new RuntimeException("가맹점 정보를 찾을 수 없습니다."));
     Orders orders = orderRepo.findById(req.getOrderId())
@@ -70,60 +98,58 @@ public class ReturnService {
       throw new RuntimeException("반품 요청 품목이 없습니다.");
     }
 
-    List<OrderItem> orderItems = orderItemRepo.findByOrders(orders);
-    Map<Long, OrderItem> orderedItemMap = orderItems.stream()
-        .collect(Collectors
-            .toMap(oi -> oi.getProduct().getProductId(), oi -> oi));
-
-    final List<ReturnStatus> statuses = List.of(
-        ReturnStatus.REQUESTED,
-        ReturnStatus.APPROVED,
-        ReturnStatus.RECEIVED,
-        ReturnStatus.COMPLETED
-    );
+    // 발주 품목 행을 잠근 뒤 누적 반품 수량으로 검증하고 갱신하므로, 동시에 들어온 반품 요청도 주문 수량을 넘지 않습니다.
+    Map<Long, List<OrderItem>> orderedItemMap = groupByProduct(
+        orderItemRepo.findByOrderIdForUpdate(orders.getOrderId()));
 
     BigDecimal totalPrice = BigDecimal.ZERO;
     List<ReturnItem> returnItems = new ArrayList<>();
 
-    Map<Long, Integer> orderedQtyMap = orderItems.stream()
-        .collect(Collectors
-            .toMap(oi -> oi.getProduct().getProductId(), OrderItem::getQuantity));
-
     for (ReturnCreateRequest.Item reqItem : req.getItems()) {
-      Product product = productRepo.findById(reqItem.getProductId())
-          .orElseThrow(() -> new RuntimeException("제품 정보를 찾을 수 없습니다."));
+      List<OrderItem> orderedItems = orderedItemMap.get(reqItem.getProductId());
+      if (orderedItems == null) {
+        throw new RuntimeException("발주 내역에 없는 제품은 반품할 수 없습니다.");
+      }
 
       int quantity = reqItem.getQuantity();
 
-      // 반품 가능 수량 제한
-      int orderedQty = orderedQtyMap.getOrDefault(product.getProductId(), 0);
-      long already = returnItemRepo.sumReturnedQtyForOrderAndProduct(
-          orders, product.getProductId(), statuses
-      );
-      long left = Math.max(0L, (long) orderedQty - already);
+      // 반품 가능 수량 제한 (같은 요청에 같은 제품이 여러 번 있으면 함께 계산합니다)
+      int orderedQty = orderedItems.stream().mapToInt(OrderItem::getQuantity).sum();
+      int already = orderedItems.stream().mapToInt(OrderItem::getReturnedQty).sum();
+      int left = Math.max(0, orderedQty - already);
       if (quantity > left) {
         throw new RuntimeException(
             String.format("반품 가능 수량을 초과했습니다. (주문수량=%d개, 누적반품=%d개)", orderedQty, already)
         );
       }
 
-      // 반품 단가 고정
-      OrderItem orderedItem = orderedItemMap.get(product.getProductId());
-      if (orderedItem == null) {
-        throw new RuntimeException("발주 내역에 없는 제품은 반품할 수 없습니다.");
+      // 같은 제품이 여러 줄로 발주된 경우 앞 줄부터 채우고, 반품 단가는 각 줄의 발주 단가로 고정합니다.
+      int remaining = quantity;
+      for (OrderItem orderedItem : orderedItems) {
+        int allocated = Math.min(remaining,
+            Math.max(0, orderedItem.getQuantity() - orderedItem.getReturnedQty()));
+        if (allocated == 0) {
+          continue;
+        }
+        orderedItem.setReturnedQty(orderedItem.getReturnedQty() + allocated);
+        remaining -= allocated;
+
+        BigDecimal unitPrice = orderedItem.getUnitPrice();
+        BigDecimal subtotalPrice = unitPrice.multiply(BigDecimal.valueOf(allocated));
+        totalPrice = totalPrice.add(subtotalPrice);
+
+        ReturnItem returnItem = ReturnItem.builder()
+            .returns(null) // 나중에 세팅
+            .product(orderedItem.getProduct())
+            .quantity(allocated)
+            .unitPrice(unitPrice)
+            .subtotalPrice(subtotalPrice)
+            .build();
+        returnItems.add(returnItem);
+        if (remaining == 0) {
+          break;
+        }
       }
-      BigDecimal unitPrice = orderedItem.getUnitPrice();
-      BigDecimal subtotalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-      totalPrice = totalPrice.add(subtotalPrice);
-
-      ReturnItem returnItem = ReturnItem.builder()
-          .returns(null) // 나중에 세팅
-          .product(product)
-          .quantity(quantity)
-          .unitPrice(unitPrice)
-          .subtotalPrice(subtotalPrice)
-          .build();
-      returnItems.add(returnItem);
     }
 
     Returns returns = Returns.builder()
@@ -140,6 +166,9 @@ public class ReturnService {
     }
     returnItemRepo.saveAll(returnItems);
 
+    if (idempotency != null) {
+      idempotencyService.complete(idempotency, returns.getReturnId());
+    }
     return new ReturnCreateResponse(returns.getReturnId());
   }
 
@@ -152,20 +181,61 @@ public class ReturnService {
       int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return returnRepo.findByStatusAndRegionAndCreatedAtBetween(
-            status, region, start, end, pageable)
+    Page<Returns> returnsPage = returnRepo.findAll(
+        searchForHq(status, region, start, end), pageable);
+    Map<Long, String> summaries = makeSummaries(returnsPage.getContent());
+    return returnsPage
+        .map(returns -> ReturnListResponse.builder()
+            .returnId(returns.getReturnId())
+            .pharmacyId(returns.getPharmacy().getPharmacyId())
+            .pharmacyName(returns.getPharmacy().getPharmacyName())
+            .status(returns.getStatus())
+            .summary(summaries.get(returns.getReturnId()))
+            .reason(returns.getReason())
+            .totalPrice(returns.getTotalPrice())
+            .createdAt(returns.getCreatedAt())
+            .build());
+  }
+
+  /**
+   * 본사에서 반품 요청 목록을 커서 기반으로 조회합니다. 전체 건수를 세지 않고, 커서 이후의 (createdAt, returnId) 순서로 다음 묶음만 읽습니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<ReturnListResponse> getReturnsByCursor(
+      ReturnStatus status, Region region, LocalDateTime start, LocalDateTime end,
+      Cursor cursor, int size
+  ) {
+    Slice<Returns> returnsSlice = returnRepo.findSlice(
+        searchForHq(status, region, start, end).and(ReturnSpecs.before(cursor)),
+        Sort.by(Direction.DESC, "createdAt", "returnId"), size);
+    Map<Long, String> summaries = makeSummaries(returnsSlice.getContent());
+    return returnsSlice
         .map(returns -> ReturnListResponse.builder()
             .returnId(returns.getReturnId())
             .pharmacyId(returns.getPharmacy().getPharmacyId())
             .pharmacyName(returns.getPharmacy().getPharmacyName())
             .status(returns.getStatus())
-            .summary(makeSummary(returns))
+            .summary(summaries.get(returns.getReturnId()))
             .reason(returns.getReason())
             .totalPrice(returns.getTotalPrice())
             .createdAt(returns.getCreatedAt())
             .build());
   }
 
+  /**
+   * 본사 목록 조회 조건을 조립합니다. 지정된 조건만 WHERE 절에 포함되며, 가맹점은 목록 조회 시에만 fetch join 합니다.
+   */
+  private Specification<Returns> searchForHq(
+      ReturnStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    return Specification.allOf(
+        ReturnSpecs.fetchPharmacy(),
+        ReturnSpecs.status(status),
+        ReturnSpecs.region(region),
+        ReturnSpecs.createdFrom(start),
+        ReturnSpecs.createdTo(end));
+  }
+
   /**
    * 가맹점에서 반품 요청 목록을 조회합니다. 상태를 지정하지 않으면 해당 가맹점의 모든 반품 요청을 조회합니다.
    */
@@ -174,13 +244,18 @@ public class ReturnService {
       Long pharmacyId, ReturnStatus status, int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return returnRepo.findByPharmacy_PharmacyIdAndStatus(pharmacyId, status, pageable)
+    Page<Returns> returnsPage = returnRepo.findAll(Specification.allOf(
+        ReturnSpecs.fetchPharmacy(),
+        ReturnSpecs.pharmacyId(pharmacyId),
+        ReturnSpecs.status(status)), pageable);
+    Map<Long, String> summaries = makeSummaries(returnsPage.getContent());
+    return returnsPage
         .map(returns -> ReturnListResponse.builder()
             .returnId(returns.getReturnId())
             .pharmacyId(pharmacyId)
             .pharmacyName(returns.getPharmacy().getPharmacyName())
             .status(returns.getStatus())
-            .summary(makeSummary(returns))
+            .summary(summaries.get(returns.getReturnId()))
             .reason(returns.getReason())
             .totalPrice(returns.getTotalPrice())
             .createdAt(returns.getCreatedAt())
@@ -192,10 +267,10 @@ public class ReturnService {
    */
   @Transactional(readOnly = true)
   public ReturnDetailResponse getReturnById(Long returnId) {
-    Returns returns = returnRepo.findById(returnId)
+    Returns returns = returnRepo.findWithPharmacyById(returnId)
         .orElseThrow(() -> new RuntimeException("반품 요청 정보를 찾을 수 없습니다."));
 
-    List<ReturnItem> items = returnItemRepo.findByReturns(returns);
+    List<ReturnItem> items = returnItemRepo.findWithProductByReturnIds(List.of(returnId));
     List<ReturnDetailResponse.Item> itemsList = items.stream()
         .map(item -> ReturnDetailResponse.Item.builder()
             .productId(item.getProduct().getProductId())
@@ -225,11 +300,21 @@ public class ReturnService {
         .build();
   }
 
-  private String makeSummary(Returns returns) {
-    List<ReturnItem> items = returnItemRepo.findByReturns(returns);
-    String firstProductName = items.get(0).getProduct().getProductName();
-    int count = items.size();
-    return (count > 1) ? firstProductName + " 외 " + (count - 1) + "개" : firstProductName;
+  /**
+   * 한 페이지의 반품 요약을 한 번의 조회로 만듭니다.
+   */
+  private Map<Long, String> makeSummaries(List<Returns> returns) {
+    List<Long> returnIds = returns.stream()
+        .map(Returns::getReturnId)
+        .toList();
+    if (returnIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return returnItemRepo.findWithProductByReturnIds(returnIds).stream()
+        .collect(Collectors.groupingBy(
+            ri -> ri.getReturns().getReturnId(), LinkedHashMap::new, Collectors.toList()))
+        .entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, e -> makeSummary(e.getValue())));
   }
 
   private String makeSummary(List<ReturnItem> items) {
@@ -246,10 +331,9 @@ public class ReturnService {
     Returns returns = returnRepo.findById(returnId)
         .orElseThrow(() -> new RuntimeException("반품 요청 정보를 찾을 수 없습니다."));
 
-    if (returns.getStatus() == ReturnStatus.CANCELED) {
-      throw new RuntimeException("이미 취소된 반품 요청입니다.");
-    } else if (returns.getStatus() == ReturnStatus.COMPLETED) {
-      throw new RuntimeException("이미 완료된 반품 요청입니다.");
+    String error = checkTransition(returns.getStatus());
+    if (error != null) {
+      throw new RuntimeException(error);
     }
 
     if (req.getStatus() == ReturnStatus.COMPLETED) {
@@ -257,18 +341,118 @@ public class ReturnService {
           returns.getPharmacy().getPharmacyId(), BalanceTxType.RETURN, returns.getTotalPrice()
       );
 
-      List<ReturnItem> items = returnItemRepo.findByReturns(returns);
-      for (ReturnItem ri : items) {
-        stockTxService.createStockTx(
-            ri.getProduct().getProductId(), StockTxType.RETURN, ri.getQuantity()
-        );
-      }
+      stockTxService.createStockTxs(
+          sumQuantitiesByProduct(returnItemRepo.findByReturns(returns)), StockTxType.RETURN);
+    } else if (req.getStatus() == ReturnStatus.CANCELED) {
+      releaseReturnedQty(returns, returnItemRepo.findByReturns(returns));
     }
 
     returns.setStatus(req.getStatus());
     returnRepo.save(returns);
   }
 
+  /**
+   * 입고 처리된 여러 반품 요청을 한 번에 완료합니다. 완료 가능 여부는 한 번의 조회로 먼저 검증하고, 변경은 일정 건수씩 나눈 트랜잭션으로
+   * 처리합니다. 묶음 안의 잔액/재고 환원은 가맹점별, 제품별로 합산해 일괄 반영합니다. 묶음 처리 중 오류가 나면 해당 묶음만 한 건씩 다시
+   * 처리합니다.
+   */
+  public BulkUpdateResponse completeReturns(ReturnBulkCompleteRequest req) {
+    List<Long> returnIds = new ArrayList<>(new LinkedHashSet<>(req.getReturnIds()));
+    Map<Long, ReturnStatus> statuses = returnRepo.findStatusesByIds(returnIds).stream()
+        .collect(Collectors.toMap(
+            ReturnRepository.ReturnStatusProjection::getReturnId,
+            ReturnRepository.ReturnStatusProjection::getStatus));
+
+    Map<Long, BulkUpdateResponse.Result> results = new LinkedHashMap<>();
+    List<Long> targetIds = new ArrayList<>();
+    for (Long returnId : returnIds) {
+      String error = statuses.containsKey(returnId)
+          ? checkTransition(statuses.get(returnId))
+          : "반품 요청 정보를 찾을 수 없습니다.";
+      if (error != null) {
+        results.put(returnId, BulkUpdateResponse.Result.failure(returnId, error));
+      } else {
+        targetIds.add(returnId);
+      }
+    }
+
+    for (int from = 0; from < targetIds.size(); from += BULK_CHUNK_SIZE) {
+      List<Long> chunk = targetIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetIds.size()));
+      try {
+        transactionTemplate.execute(tx -> applyReturnCompletions(chunk))
+            .forEach(result -> results.put(result.getId(), result));
+      } catch (RuntimeException e) {
+        log.warn("[ReturnService] 반품 일괄 완료 실패, 건별로 재시도합니다: {}", e.getMessage());
+        for (Long returnId : chunk) {
+          try {
+            transactionTemplate.execute(tx -> applyReturnCompletions(List.of(returnId)))
+                .forEach(result -> results.put(result.getId(), result));
+          } catch (RuntimeException single) {
+            results.put(returnId, BulkUpdateResponse.Result.failure(returnId, single.getMessage()));
+          }
+        }
+      }
+    }
+
+    return BulkUpdateResponse.of(returnIds.stream().map(results::get).toList());
+  }
+
+  /**
+   * 반품 요청 행을 잠근 뒤 상태를 다시 확인하고 완료 처리합니다. 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+   */
+  private List<BulkUpdateResponse.Result> applyReturnCompletions(List<Long> returnIds) {
+    Map<Long, Returns> locked = returnRepo.findAllByIdForUpdate(returnIds).stream()
+        .collect(Collectors.toMap(Returns::getReturnId, returns -> returns));
+
+    List<BulkUpdateResponse.Result> results = new ArrayList<>();
+    List<Returns> targets = new ArrayList<>();
+    for (Long returnId : returnIds) {
+      Returns returns = locked.get(returnId);
+      String error = returns == null
+          ? "반품 요청 정보를 찾을 수 없습니다."
+          : checkTransition(returns.getStatus());
+      if (error != null) {
+        results.add(BulkUpdateResponse.Result.failure(returnId, error));
+      } else {
+        targets.add(returns);
+        results.add(BulkUpdateResponse.Result.success(returnId));
+      }
+    }
+    if (targets.isEmpty()) {
+      return results;
+    }
+
+    Map<Long, BigDecimal> refunds = targets.stream()
+        .collect(Collectors.groupingBy(
+            returns -> returns.getPharmacy().getPharmacyId(), LinkedHashMap::new,
+            Collectors.reducing(BigDecimal.ZERO, Returns::getTotalPrice, BigDecimal::add)));
+    balanceTxService.createBalanceTxs(refunds, BalanceTxType.RETURN);
+
+    stockTxService.createStockTxs(sumQuantitiesByProduct(returnItemRepo.findByReturns_ReturnIdIn(
+        targets.stream().map(Returns::getReturnId).toList())), StockTxType.RETURN);
+
+    targets.forEach(returns -> returns.setStatus(ReturnStatus.COMPLETED));
+    return results;
+  }
+
+  /**
+   * 현재 상태에서 상태를 변경할 수 없으면 그 사유를, 변경할 수 있으면 null을 반환합니다.
+   */
+  private String checkTransition(ReturnStatus current) {
+    return switch (current) {
+      case CANCELED -> "이미 취소된 반품 요청입니다.";
+      case COMPLETED -> "이미 완료된 반품 요청입니다.";
+      default -> null;
+    };
+  }
+
+  private Map<Long, Integer> sumQuantitiesByProduct(List<ReturnItem> items) {
+    return items.stream()
+        .collect(Collectors.groupingBy(
+            ri -> ri.getProduct().getProductId(), LinkedHashMap::new,
+            Collectors.summingInt(ReturnItem::getQuantity)));
+  }
+
   /**
    * 반품 요청을 삭제합니다.
    */
@@ -277,7 +461,61 @@ public class ReturnService {
     Returns returns = returnRepo.findById(returnId)
         .orElseThrow(() -> new RuntimeException("반품 요청 정보를 찾을 수 없습니다."));
 
+    if (returns.getStatus() != ReturnStatus.CANCELED) {
+      releaseReturnedQty(returns, returnItemRepo.findByReturns(returns));
+    }
     returnItemRepo.deleteAllByReturns(returns);
     returnRepo.delete(returns);
   }
+
+  /**
+   * 취소되거나 삭제되는 반품 요청의 수량만큼 발주 품목의 누적 반품 수량을 되돌립니다. 같은 제품이 여러 줄이면 반품 때 앞 줄부터 채우므로,
+   * 되돌릴 때는 뒤 줄부터 비웁니다.
+   */
+  private void releaseReturnedQty(Returns returns, List<ReturnItem> items) {
+    Map<Long, Integer> quantities = sumQuantitiesByProduct(items);
+    Map<Long, List<OrderItem>> orderedItemMap = groupByProduct(
+        orderItemRepo.findByOrderIdForUpdate(returns.getOrders().getOrderId()));
+    quantities.forEach((productId, quantity) -> {
+      List<OrderItem> orderedItems = orderedItemMap.getOrDefault(productId, List.of());
+      int remaining = quantity;
+      for (int i = orderedItems.size() - 1; i >= 0 && remaining > 0; i--) {
+        OrderItem oi = orderedItems.get(i);
+        int released = Math.min(remaining, oi.getReturnedQty());
+        oi.setReturnedQty(oi.getReturnedQty() - released);
+        remaining -= released;
+      }
+    });
+  }
+
+  /**
+   * 발주 품목을 제품별로 묶습니다. 각 목록은 발주 품목 ID 순서를 유지합니다.
+   */
+  private Map<Long, List<OrderItem>> groupByProduct(List<OrderItem> orderItems) {
+    return orderItems.stream()
+        .collect(Collectors.groupingBy(
+            oi -> oi.getProduct().getProductId(), LinkedHashMap::new, Collectors.toList()));
+  }
+
+  /**
+   * 발주 품목의 누적 반품 수량이 실제 반품 품목 합계(취소 제외)와 다른 행을 찾습니다. 같은 제품이 여러 줄이면 합계를 앞 줄부터 발주
+   * 수량만큼 채운 값과 비교합니다. repair가 true이면 그 값으로 다시 맞춥니다.
+   */
+  @Transactional
+  public List<ReturnedQtyDriftResponse> checkReturnedQtyDrift(boolean repair) {
+    List<ReturnedQtyDriftResponse> drifts = orderItemRepo.findReturnedQtyDrift().stream()
+        .map(row -> ReturnedQtyDriftResponse.builder()
+            .orderItemId(row.getOrderItemId())
+            .orderId(row.getOrderId())
+            .productId(row.getProductId())
+            .returnedQty(row.getReturnedQty())
+            .expectedQty(row.getExpectedQty())
+            .build())
+        .toList();
+    if (repair && !drifts.isEmpty()) {
+      int repaired = orderItemRepo.repairReturnedQty();
+      log.info("[ReturnService] 누적 반품 수량 보정 완료 (drift={}, repaired={})", drifts.size(), repaired);
+    }
+    return drifts;
+  }
 }
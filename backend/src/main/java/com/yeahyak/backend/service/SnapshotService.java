@@ -0,0 +1,228 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.dto.BalanceAsOfResponse;
+import com.yeahyak.backend.dto.StockAsOfResponse;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가맹점 잔액과 제품 재고의 일별 스냅샷을 저장하고, 특정 날짜 기준(as-of) 값을 조회합니다.
+ * <p>
+ * 스냅샷은 그날 마지막 거래 이후의 값입니다. 특정 날짜의 값은 그 날짜 이전의 가장 가까운 스냅샷에서 시작해, 스냅샷 이후 그 날짜까지의 거래
+ * 내역만 확인합니다. 거래 내역마다 거래 후 잔량이 저장되어 있으므로 그 구간의 마지막 거래 한 건만 읽으면 됩니다. 스냅샷 테이블은
+ * db/migration에서 만듭니다.
+ */
+@Slf4j
+@Service
+public class SnapshotService {
+
+  /**
+   * 스냅샷이 없을 때 거래 내역을 처음부터 확인하기 위한 하한입니다.
+   */
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private enum Ledger {
+    BALANCE("pharmacies", "pharmacy_id", "balance_txs", "balance_tx_id", "balance_after",
+        "balance_snapshots"),
+    STOCK("products", "product_id", "stock_txs", "stock_tx_id", "quantity_after",
+        "stock_snapshots");
+
+    private final String headTable;
+    private final String entityColumn;
+    private final String table;
+    private final String idColumn;
+    private final String afterColumn;
+    private final String snapshotTable;
+
+    Ledger(String headTable, String entityColumn, String table, String idColumn,
+        String afterColumn, String snapshotTable) {
+      this.headTable = headTable;
+      this.entityColumn = entityColumn;
+      this.table = table;
+      this.idColumn = idColumn;
+      this.afterColumn = afterColumn;
+      this.snapshotTable = snapshotTable;
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int backfillDays;
+
+  public SnapshotService(
+      JdbcTemplate jdbcTemplate,
+      @Value("${snapshot.backfill-days:31}") int backfillDays
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.backfillDays = backfillDays;
+  }
+
+  /**
+   * 매일 자정 이후 전날의 스냅샷을 저장합니다. 서버가 멈춰 있던 날이 있으면 최대 backfillDays일 전까지 빠진 날짜를 채웁니다.
+   */
+  @Scheduled(cron = "${snapshot.cron:0 10 0 * * *}")
+  public void takeDailySnapshots() {
+    LocalDate yesterday = LocalDate.now().minusDays(1);
+    for (Ledger ledger : Ledger.values()) {
+      LocalDate last = jdbcTemplate.queryForObject(
+          "SELECT MAX(snapshot_date) FROM " + ledger.snapshotTable, LocalDate.class);
+      LocalDate from = last == null ? yesterday : last.plusDays(1);
+      if (from.isBefore(yesterday.minusDays(backfillDays - 1))) {
+        from = yesterday.minusDays(backfillDays - 1);
+      }
+      for (LocalDate date = from; !date.isAfter(yesterday); date = date.plusDays(1)) {
+        int saved = jdbcTemplate.update(
+            "INSERT INTO " + ledger.snapshotTable
+                + " (" + ledger.entityColumn + ", snapshot_date, " + ledger.afterColumn + ")"
+                + " SELECT h." + ledger.entityColumn + ", ?, " + valueAt(ledger) + " FROM "
+                + ledger.headTable + " h"
+                + " ON DUPLICATE KEY UPDATE " + ledger.afterColumn + " = VALUES(" + ledger.afterColumn + ")",
+            date, endOf(date), endOf(date));
+        log.info("[SnapshotService] {} {} 스냅샷 저장 완료 (rows={})", ledger.snapshotTable, date, saved);
+      }
+    }
+  }
+
+  public BalanceAsOfResponse getBalanceAsOf(Long pharmacyId, LocalDate date) {
+    AsOf asOf = asOf(Ledger.BALANCE, pharmacyId, date, "가맹점 정보를 찾을 수 없습니다.");
+    return BalanceAsOfResponse.builder()
+        .pharmacyId(pharmacyId)
+        .date(date)
+        .outstandingBalance(asOf.value)
+        .snapshotDate(asOf.snapshotDate)
+        .build();
+  }
+
+  public StockAsOfResponse getStockAsOf(Long productId, LocalDate date) {
+    AsOf asOf = asOf(Ledger.STOCK, productId, date, "제품을 찾을 수 없습니다.");
+    return StockAsOfResponse.builder()
+        .productId(productId)
+        .date(date)
+        .stockQty(asOf.value.intValue())
+        .snapshotDate(asOf.snapshotDate)
+        .build();
+  }
+
+  /**
+   * 모든 가맹점의 특정 날짜 기준 잔액을 조회합니다. 그 날짜의 스냅샷이 있으면 스냅샷을 그대로 읽습니다.
+   */
+  public List<BalanceAsOfResponse> getBalancesAsOf(LocalDate date) {
+    return listAsOf(Ledger.BALANCE, date, (entityId, value, snapshotDate) ->
+        BalanceAsOfResponse.builder()
+            .pharmacyId(entityId)
+            .date(date)
+            .outstandingBalance(value)
+            .snapshotDate(snapshotDate)
+            .build());
+  }
+
+  /**
+   * 모든 제품의 특정 날짜 기준 재고를 조회합니다. 그 날짜의 스냅샷이 있으면 스냅샷을 그대로 읽습니다.
+   */
+  public List<StockAsOfResponse> getStocksAsOf(LocalDate date) {
+    return listAsOf(Ledger.STOCK, date, (entityId, value, snapshotDate) ->
+        StockAsOfResponse.builder()
+            .productId(entityId)
+            .date(date)
+            .stockQty(value.intValue())
+            .snapshotDate(snapshotDate)
+            .build());
+  }
+
+  private AsOf asOf(Ledger ledger, Long entityId, LocalDate date, String notFoundMessage) {
+    Integer exists = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + ledger.headTable + " WHERE " + ledger.entityColumn + " = ?",
+        Integer.class, entityId);
+    if (exists == null || exists == 0) {
+      throw new RuntimeException(notFoundMessage);
+    }
+
+    AsOf snapshot = jdbcTemplate.query(
+            "SELECT snapshot_date, " + ledger.afterColumn + " FROM " + ledger.snapshotTable
+                + " WHERE " + ledger.entityColumn + " = ? AND snapshot_date <= ?"
+                + " ORDER BY snapshot_date DESC LIMIT 1",
+            (rs, rowNum) -> new AsOf(rs.getBigDecimal(2), rs.getObject(1, LocalDate.class)),
+            entityId, date)
+        .stream()
+        .findFirst()
+        .orElse(null);
+
+    // 스냅샷 다음 날부터 조회 날짜까지의 마지막 거래만 읽습니다.
+    LocalDateTime from = snapshot == null ? EPOCH : snapshot.snapshotDate.plusDays(1).atStartOfDay();
+    BigDecimal replayed = jdbcTemplate.queryForObject(
+        "SELECT COALESCE(" + lastAfter(ledger, ledger.table, "?", true) + ", "
+            + lastAfter(ledger, ledger.table + "_archive", "?", true) + ")",
+        BigDecimal.class,
+        entityId, Timestamp.valueOf(from), endOf(date),
+        entityId, Timestamp.valueOf(from), endOf(date));
+    if (replayed != null) {
+      return new AsOf(replayed, snapshot == null ? null : snapshot.snapshotDate);
+    }
+    return snapshot != null ? snapshot : new AsOf(BigDecimal.ZERO, null);
+  }
+
+  private <T> List<T> listAsOf(Ledger ledger, LocalDate date, AsOfMapper<T> mapper) {
+    Integer snapshots = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + ledger.snapshotTable + " WHERE snapshot_date = ?",
+        Integer.class, date);
+    if (snapshots != null && snapshots > 0) {
+      return jdbcTemplate.query(
+          "SELECT " + ledger.entityColumn + ", " + ledger.afterColumn + " FROM " + ledger.snapshotTable
+              + " WHERE snapshot_date = ? ORDER BY " + ledger.entityColumn,
+          (rs, rowNum) -> mapper.map(rs.getLong(1), rs.getBigDecimal(2), date),
+          date);
+    }
+    // 아직 스냅샷이 없는 날짜(오늘 등)는 스냅샷과 같은 방식으로 계산합니다.
+    return jdbcTemplate.query(
+        "SELECT h." + ledger.entityColumn + ", " + valueAt(ledger) + " FROM " + ledger.headTable + " h"
+            + " ORDER BY h." + ledger.entityColumn,
+        (rs, rowNum) -> mapper.map(rs.getLong(1), rs.getBigDecimal(2), null),
+        endOf(date), endOf(date));
+  }
+
+  /**
+   * 각 가맹점/제품의 시각 이전 마지막 거래 후 잔량입니다. 보관 테이블도 확인하며, 거래가 없으면 0입니다. 시각 파라미터 두 개가 필요합니다.
+   */
+  private String valueAt(Ledger ledger) {
+    return "COALESCE(" + lastAfter(ledger, ledger.table, "h." + ledger.entityColumn, false) + ", "
+        + lastAfter(ledger, ledger.table + "_archive", "h." + ledger.entityColumn, false) + ", 0)";
+  }
+
+  /**
+   * (가맹점/제품 ID, 생성 시각, 거래 ID) 인덱스를 역순으로 한 건만 읽는 서브쿼리입니다.
+   */
+  private String lastAfter(Ledger ledger, String table, String entity, boolean withLowerBound) {
+    return "(SELECT l." + ledger.afterColumn + " FROM " + table + " l"
+        + " WHERE l." + ledger.entityColumn + " = " + entity
+        + (withLowerBound ? " AND l.created_at >= ?" : "")
+        + " AND l.created_at < ?"
+        + " ORDER BY l.created_at DESC, l." + ledger.idColumn + " DESC LIMIT 1)";
+  }
+
+  private Timestamp endOf(LocalDate date) {
+    return Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+  }
+
+  private interface AsOfMapper<T> {
+
+    T map(Long entityId, BigDecimal value, LocalDate snapshotDate);
+  }
+
+  private static class AsOf {
+
+    private final BigDecimal value;
+    private final LocalDate snapshotDate;
+
+    private AsOf(BigDecimal value, LocalDate snapshotDate) {
+      this.value = value;
+      this.snapshotDate = snapshotDate;
+    }
+  }
+}
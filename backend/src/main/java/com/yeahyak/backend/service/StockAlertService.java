@@ -0,0 +1,150 @@
+package com.yeahyak.backend.service;
+
+import com.yeahyak.backend.dto.StockAlertEvent;
+import com.yeahyak.backend.repository.StockChange;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 제품 재고가 재주문 기준 수량을 넘나들 때 본사 클라이언트에 Server-Sent Events로 알립니다.
+ * <p>
+ * 재고를 바꾸는 모든 거래는 {@link StockTxService#createStockTxs}를 거치므로, 잠금 조회에서 읽은 변경 전후 수량만으로 이번 거래가
+ * 기준을 넘었는지 판단합니다. 재고 부족 제품을 찾기 위해 제품 전체를 반복 조회할 필요가 없습니다. 알림은 트랜잭션이 커밋된 뒤에 보내며, 이
+ * 서버에 연결된 클라이언트에게만 전달됩니다. 느린 클라이언트가 발주/입고 응답을 늦추지 않도록 전송은 별도 스레드 하나에서 순서대로
+ * 처리합니다.
+ */
+@Slf4j
+@Service
+public class StockAlertService {
+
+  private final int defaultThreshold;
+  private final long timeoutMs;
+
+  private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+  private final ExecutorService broadcastExecutor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("stock-alert-broadcast").daemon().factory());
+
+  public StockAlertService(
+      @Value("${stock.alert.default-threshold:100}") int defaultThreshold,
+      @Value("${stock.alert.sse-timeout-ms:1800000}") long timeoutMs
+  ) {
+    this.defaultThreshold = defaultThreshold;
+    this.timeoutMs = timeoutMs;
+  }
+
+  /**
+   * 재고 알림을 받을 연결을 등록합니다. 연결이 끊기거나 시간이 지나면 목록에서 제거되며, 클라이언트는 다시 연결해야 합니다.
+   */
+  public SseEmitter subscribe() {
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    emitter.onCompletion(() -> emitters.remove(emitter));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> emitters.remove(emitter));
+    emitters.add(emitter);
+    // 연결 직후 주석 한 줄을 보내 프록시가 응답 헤더를 바로 내려보내도록 합니다.
+    send(emitter, SseEmitter.event().comment("connected"));
+    return emitter;
+  }
+
+  /**
+   * 재고 변경 결과 중 재주문 기준 수량 이하로 떨어지거나 다시 넘어선 제품을 찾아, 트랜잭션이 커밋된 뒤 알립니다.
+   */
+  public void onStockChanged(List<StockChange.StockLevel> levels) {
+    List<StockAlertEvent> alerts = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (StockChange.StockLevel level : levels) {
+      int threshold = level.getReorderThreshold() != null
+          ? level.getReorderThreshold()
+          : defaultThreshold;
+      boolean wasLow = level.getQuantityBefore() <= threshold;
+      boolean isLow = level.getQuantityAfter() <= threshold;
+      if (wasLow != isLow) {
+        alerts.add(StockAlertEvent.builder()
+            .productId(level.getProductId())
+            .productName(level.getProductName())
+            .type(isLow ? StockAlertEvent.Type.LOW : StockAlertEvent.Type.RECOVERED)
+            .stockQty(level.getQuantityAfter())
+            .reorderThreshold(threshold)
+            .occurredAt(now)
+            .build());
+      }
+    }
+    if (alerts.isEmpty()) {
+      return;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          broadcastAsync(alerts);
+        }
+      });
+    } else {
+      broadcastAsync(alerts);
+    }
+  }
+
+  /**
+   * 알림이 없는 동안 프록시가 연결을 끊지 않도록 주기적으로 주석을 보내고, 끊긴 연결을 정리합니다.
+   */
+  @Scheduled(fixedDelayString = "${stock.alert.heartbeat-ms:30000}")
+  public void heartbeat() {
+    for (SseEmitter emitter : emitters) {
+      send(emitter, SseEmitter.event().comment("heartbeat"));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    broadcastExecutor.shutdownNow();
+  }
+
+  private void broadcastAsync(List<StockAlertEvent> alerts) {
+    try {
+      broadcastExecutor.execute(() -> broadcast(alerts));
+    } catch (RejectedExecutionException e) {
+      log.warn("[StockAlertService] 종료 중이므로 재고 알림을 보내지 않습니다. (alerts={})", alerts.size());
+    }
+  }
+
+  private void broadcast(List<StockAlertEvent> alerts) {
+    log.info("[StockAlertService] 재고 알림 전송 (alerts={}, clients={})", alerts.size(),
+        emitters.size());
+    for (SseEmitter emitter : emitters) {
+      for (StockAlertEvent alert : alerts) {
+        if (!send(emitter, SseEmitter.event()
+            .name("stock-alert")
+            .data(alert, MediaType.APPLICATION_JSON))) {
+          break;
+        }
+      }
+    }
+  }
+
+  private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    try {
+      emitter.send(event);
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      // 이미 끊긴 연결입니다. 오류 콜백이 호출되지 않는 경우도 있으므로 여기서도 제거합니다.
+      emitters.remove(emitter);
+      return false;
+    }
+  }
+}
@@ -1,17 +1,32 @@
 package com.yeahyak.backend.service;
 
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.StockInRequest;
+import com.yeahyak.backend.dto.StockInResponse;
 import com.yeahyak.backend.dto.StockTxDetailResponse;
-import com.yeahyak.backend.entity.Product;
 import com.yeahyak.backend.entity.StockTx;
 import com.yeahyak.backend.entity.enums.StockTxType;
+import com.yeahyak.backend.exception.InsufficientStockException;
 import com.yeahyak.backend.repository.ProductRepository;
+import com.yeahyak.backend.repository.StockChange;
 import com.yeahyak.backend.repository.StockTxRepository;
+import com.yeahyak.backend.repository.spec.StockTxSpecs;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,59 +39,156 @@ public class StockTxService {
 
   private final StockTxRepository stockTxRepo;
   private final ProductRepository productRepo;
+  private final StockAlertService stockAlertService;
+  private final ArchiveService archiveService;
 
   /**
    * 재고 거래 내역을 생성하고, 해당 제품의 재고 수량을 업데이트합니다.
    */
   @Transactional
   public Long createStockTx(Long productId, StockTxType type, int amount) {
-    boolean isIn = switch (type) {
-      case IN, ORDER_CANCEL, RETURN -> true;
-      case ORDER -> false;
-      default -> throw new RuntimeException("잘못된 거래 유형입니다.");
-    };
+    return createStockTxs(Map.of(productId, amount), type).get(0).getStockTxId();
+  }
 
-    if (isIn) {
-      stockTxRepo.increaseStockQty(productId, amount);
-    } else {
-      int updated = stockTxRepo.decreaseStockQty(productId, amount);
-      if (updated == 0) {
-        Product product = productRepo.findById(productId)
-            .orElseThrow(() -> new RuntimeException("제품 정보를 찾을 수 없습니다."));
-        throw new RuntimeException(product.getProductName() + "의 재고가 부족합니다.");
-      }
+  /**
+   * 여러 제품의 재고 거래 내역을 한 번에 생성합니다. 잠금 조회 한 번으로 변경 후 수량을 계산하고, 재고 수량은 단일 UPDATE 문으로 일괄
+   * 변경하며, 거래 내역은 일괄 저장합니다. 차감 시에는 전체 재고를 먼저 검증하여 부족한 제품을 한 번에 알려줍니다. 재주문 기준 수량을
+   * 넘나든 제품은 커밋 후 재고 알림으로 보냅니다.
+   */
+  @Transactional
+  public List<StockTx> createStockTxs(Map<Long, Integer> amounts, StockTxType type) {
+    return createStockTxs(List.copyOf(amounts.entrySet()), type);
+  }
+
+  /**
+   * 같은 제품이 여러 번 나올 수 있는 (제품 ID, 수량) 목록으로 재고 거래 내역을 한 번에 생성합니다. 재고 수량은 제품별로 합산해 한 번에
+   * 변경하고, 거래 내역은 목록의 항목마다 한 건씩 남깁니다. 각 거래 내역의 변경 후 수량은 목록 순서대로 이어지도록 계산합니다.
+   */
+  @Transactional
+  public List<StockTx> createStockTxs(List<Map.Entry<Long, Integer>> amounts, StockTxType type) {
+    if (amounts.isEmpty()) {
+      return List.of();
     }
 
-    Product product = productRepo.findById(productId)
-        .orElseThrow(() -> new RuntimeException("제품 정보를 찾을 수 없습니다."));
+    int sign = isIn(type) ? 1 : -1;
+    Map<Long, Integer> deltas = amounts.stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> sign * entry.getValue(),
+            Integer::sum, LinkedHashMap::new));
+    StockChange change = stockTxRepo.applyStockDeltas(deltas,
+        type == StockTxType.IN ? LocalDateTime.now() : null);
+    if (!change.getMissingProductIds().isEmpty()) {
+      throw new RuntimeException("제품 정보를 찾을 수 없습니다.");
+    }
+    if (!change.getShortProductNames().isEmpty()) {
+      throw new InsufficientStockException(change.getShortProductNames());
+    }
+    stockAlertService.onStockChanged(change.getLevels());
 
-    StockTx stockTx = StockTx.builder()
-        .product(product)
-        .type(type)
-        .amount(amount)
-        .quantityAfter(product.getStockQty())
-        .build();
-    stockTxRepo.save(stockTx);
+    // 합산해 반영한 변경 후 수량에서 변경 전 수량을 구한 뒤, 항목마다 수량을 더해 나갑니다.
+    Map<Long, Integer> quantities = new HashMap<>();
+    change.getQuantityAfter().forEach((productId, quantityAfter) ->
+        quantities.put(productId, quantityAfter - deltas.get(productId)));
+    List<StockTx> stockTxs = new ArrayList<>(amounts.size());
+    for (Map.Entry<Long, Integer> entry : amounts) {
+      stockTxs.add(StockTx.builder()
+          .product(productRepo.getReferenceById(entry.getKey()))
+          .type(type)
+          .amount(entry.getValue())
+          .quantityAfter(quantities.merge(entry.getKey(), sign * entry.getValue(), Integer::sum))
+          .build());
+    }
+    return stockTxRepo.saveAll(stockTxs);
+  }
+
+  /**
+   * 여러 제품을 한 트랜잭션에서 입고합니다. 같은 제품이 여러 번 있으면 수량을 합쳐 거래 내역 한 건으로 처리하며, 하나라도 없는 제품이 있으면
+   * 전체가 취소됩니다.
+   */
+  @Transactional
+  public List<StockInResponse> stockInBatch(List<StockInRequest> items) {
+    Map<Long, Integer> amounts = items.stream()
+        .collect(Collectors.toMap(StockInRequest::getProductId, StockInRequest::getAmount,
+            Integer::sum, LinkedHashMap::new));
+    return createStockTxs(amounts, StockTxType.IN).stream()
+        .map(stockTx -> StockInResponse.builder()
+            .stockTxId(stockTx.getStockTxId())
+            .productId(stockTx.getProduct().getProductId())
+            .amount(stockTx.getAmount())
+            .quantityBefore(stockTx.getQuantityAfter() - stockTx.getAmount())
+            .quantityAfter(stockTx.getQuantityAfter())
+            .createdAt(stockTx.getCreatedAt())
+            .build())
+        .toList();
+  }
 
-    return stockTx.getStockTxId();
+  private boolean isIn(StockTxType type) {
+    return switch (type) {
+      case IN, ORDER_CANCEL, RETURN -> true;
+      case ORDER -> false;
+      default -> throw new RuntimeException("잘못된 거래 유형입니다.");
+    };
   }
 
   /**
-   * 특정 제품의 재고 거래 내역을 조회합니다.
+   * 특정 제품의 재고 거래 내역을 조회합니다. 원본 테이블에서 먼저 읽고, 페이지가 보관 기준 시각 이전에 닿으면 보관 테이블도 함께 조회합니다.
    */
   @Transactional(readOnly = true)
   public Page<StockTxDetailResponse> searchStockTxByProductId(
       Long productId, int page, int size
   ) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    return stockTxRepo.findByProduct_ProductId(productId, pageable)
-        .map(stockTx -> StockTxDetailResponse.builder()
-            .stockTxId(stockTx.getStockTxId())
-            .productId(productId)
-            .type(stockTx.getType())
-            .amount(stockTx.getAmount())
-            .quantityAfter(stockTx.getQuantityAfter())
-            .createdAt(stockTx.getCreatedAt())
-            .build());
+    Page<StockTxDetailResponse> live = stockTxRepo.findByProduct_ProductId(productId, pageable)
+        .map(stockTx -> toDetail(productId, stockTx));
+    LocalDateTime archivedBefore = archiveService.archivedBefore("stock_txs");
+    if (archivedBefore == null) {
+      return live;
+    }
+    if (archiveService.coversLive(archivedBefore, live.getNumberOfElements(), size, oldest(live))) {
+      return new PageImpl<>(live.getContent(), pageable,
+          live.getTotalElements() + archiveService.countStockTxs(productId));
+    }
+    return archiveService.getStockTxs(productId, page, size);
+  }
+
+  /**
+   * 특정 제품의 재고 거래 내역을 커서 기반으로 조회합니다. 커서가 보관 기준 시각 이전이거나 원본 테이블에서 읽은 결과가 그 시각 이전에 닿으면
+   * 보관 테이블도 함께 조회합니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<StockTxDetailResponse> searchStockTxByProductIdAndCursor(
+      Long productId, Cursor cursor, int size
+  ) {
+    LocalDateTime archivedBefore = archiveService.archivedBefore("stock_txs");
+    if (archivedBefore != null && cursor != null && cursor.getCreatedAt().isBefore(archivedBefore)) {
+      return archiveService.getStockTxsByCursor(productId, cursor, size);
+    }
+    Specification<StockTx> spec = Specification.allOf(
+        StockTxSpecs.productId(productId),
+        StockTxSpecs.before(cursor));
+    Slice<StockTxDetailResponse> live = stockTxRepo
+        .findSlice(spec, Sort.by(Direction.DESC, "createdAt", "stockTxId"), size)
+        .map(stockTx -> toDetail(productId, stockTx));
+    // 다음 묶음이 원본 테이블에 남아 있어야 보관 테이블을 읽지 않고도 다음 페이지 여부를 알 수 있습니다.
+    if (archivedBefore == null || live.hasNext()
+        && archiveService.coversLive(archivedBefore, live.getNumberOfElements(), size, oldest(live))) {
+      return live;
+    }
+    return archiveService.getStockTxsByCursor(productId, cursor, size);
+  }
+
+  private StockTxDetailResponse toDetail(Long productId, StockTx stockTx) {
+    return StockTxDetailResponse.builder()
+        .stockTxId(stockTx.getStockTxId())
+        .productId(productId)
+        .type(stockTx.getType())
+        .amount(stockTx.getAmount())
+        .quantityAfter(stockTx.getQuantityAfter())
+        .createdAt(stockTx.getCreatedAt())
+        .build();
+  }
+
+  private LocalDateTime oldest(Slice<StockTxDetailResponse> rows) {
+    return rows.hasContent() ? rows.getContent().get(rows.getNumberOfElements() - 1).getCreatedAt()
+        : null;
   }
 }
@@ -0,0 +1,34 @@
+-- 목록/원장 조회가 사용하는 복합 인덱스입니다.
+-- 테이블은 Hibernate 스키마 자동 생성으로 만들어지고, 인덱스는 이 마이그레이션에서만 정의합니다.
+
+-- 발주: 가맹점 목록(상태 유무), 본사 목록(상태/기간), 본사 keyset 목록
+CREATE INDEX idx_orders_pharmacy_created ON orders (pharmacy_id, created_at);
+CREATE INDEX idx_orders_pharmacy_status_created ON orders (pharmacy_id, status, created_at);
+CREATE INDEX idx_orders_status_created ON orders (status, created_at);
+CREATE INDEX idx_orders_created ON orders (created_at, order_id);
+CREATE INDEX idx_order_items_order_product ON order_items (order_id, product_id);
+
+-- 반품: 발주와 같은 목록 경로 + 발주별 반품 수량 합계
+CREATE INDEX idx_returns_pharmacy_created ON returns (pharmacy_id, created_at);
+CREATE INDEX idx_returns_pharmacy_status_created ON returns (pharmacy_id, status, created_at);
+CREATE INDEX idx_returns_status_created ON returns (status, created_at);
+CREATE INDEX idx_returns_created ON returns (created_at, return_id);
+CREATE INDEX idx_returns_order_status ON returns (order_id, status);
+CREATE INDEX idx_return_items_return_product ON return_items (return_id, product_id);
+
+-- 재고 거래 내역: 제품별 기간/유형 조회, 제품별 keyset 조회와 장부 대사
+CREATE INDEX idx_stock_txs_product_created ON stock_txs (product_id, created_at, stock_tx_id);
+CREATE INDEX idx_stock_txs_product_type_created ON stock_txs (product_id, type, created_at);
+CREATE INDEX idx_stock_txs_product_id ON stock_txs (product_id, stock_tx_id);
+
+-- 잔액 거래 내역: 가맹점별 기간/유형 조회, 가맹점별 keyset 조회와 장부 대사
+CREATE INDEX idx_balance_txs_pharmacy_created ON balance_txs (pharmacy_id, created_at, balance_tx_id);
+CREATE INDEX idx_balance_txs_pharmacy_type_created ON balance_txs (pharmacy_id, type, created_at);
+CREATE INDEX idx_balance_txs_pharmacy_id ON balance_txs (pharmacy_id, balance_tx_id);
+
+-- 기준 정보
+CREATE INDEX idx_products_category_created ON products (main_category, sub_category, created_at);
+CREATE INDEX idx_products_stock_qty ON products (stock_qty);
+CREATE INDEX idx_pharmacies_region ON pharmacies (region);
+CREATE INDEX idx_pharmacy_requests_status_requested ON pharmacy_requests (status, requested_at);
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
@@ -0,0 +1,6 @@
+-- 보관 작업이 기준 시각 이전의 행을 (생성 시각, ID) 순서로 찾을 때 사용하는 인덱스입니다.
+-- 거래/대화 ID는 pooled 시퀀스라 ID 순서가 생성 순서와 다를 수 있으므로, 생성 시각으로 직접 범위를 찾습니다.
+
+CREATE INDEX idx_stock_txs_created ON stock_txs (created_at, stock_tx_id);
+CREATE INDEX idx_balance_txs_created ON balance_txs (created_at, balance_tx_id);
+CREATE INDEX idx_chatbot_asked ON chatbot (asked_at, chatbot_id);
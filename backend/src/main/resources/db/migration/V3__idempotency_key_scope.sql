@@ -0,0 +1,16 @@
+-- idempotency_keys를 (범위, 가맹점, 키) 단위 유니크 제약으로 옮깁니다.
+-- 스키마 자동 갱신은 새 제약만 추가하고 기존 (범위, 키) 제약은 지우지 않으므로 여기서 삭제합니다. MySQL에는 DROP INDEX IF EXISTS가
+-- 없으므로 제약이 있을 때만 실행합니다.
+
+SET @drop_legacy_key = (
+  SELECT IF(COUNT(*) > 0, 'ALTER TABLE idempotency_keys DROP INDEX uk_idempotency_keys_scope_key', 'DO 0')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'idempotency_keys'
+    AND index_name = 'uk_idempotency_keys_scope_key'
+);
+PREPARE stmt FROM @drop_legacy_key;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 가맹점과 요청 해시가 없던 시절의 행은 재시도 판단에 쓸 수 없으므로 지웁니다.
+DELETE FROM idempotency_keys WHERE pharmacy_id = 0 OR request_hash = '';
@@ -0,0 +1,12 @@
+-- 계속 쌓이기만 하는 이력 테이블의 보관 테이블과, 테이블별로 어느 시각 이전의 행이 보관되었는지 기록하는 상태 테이블입니다.
+-- 보관 테이블은 원본과 같은 컬럼/인덱스 구성으로 만들며, LIKE는 외래 키를 복사하지 않습니다.
+
+CREATE TABLE IF NOT EXISTS archive_state (
+  table_name VARCHAR(64) NOT NULL PRIMARY KEY,
+  archived_before DATETIME(6) NOT NULL,
+  updated_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS stock_txs_archive LIKE stock_txs;
+CREATE TABLE IF NOT EXISTS balance_txs_archive LIKE balance_txs;
+CREATE TABLE IF NOT EXISTS chatbot_archive LIKE chatbot;
@@ -0,0 +1,19 @@
+-- 제품의 최근 입고 일시와 가맹점의 최근 정산 일시를, 컬럼이 추가되기 전의 거래 내역에서 한 번만 채웁니다.
+-- 보관 테이블에는 항상 운영 테이블보다 오래된 행만 있으므로, 운영 테이블에 없을 때만 보관 테이블을 봅니다.
+-- 이후에는 재고/잔액을 바꾸는 UPDATE가 두 컬럼을 함께 갱신하며, 입고/정산 이력이 없는 행은 NULL로 남습니다.
+
+UPDATE products p
+SET last_stock_in_at = COALESCE(
+  (SELECT MAX(s.created_at) FROM stock_txs s
+   WHERE s.product_id = p.product_id AND s.type = 'IN'),
+  (SELECT MAX(s.created_at) FROM stock_txs_archive s
+   WHERE s.product_id = p.product_id AND s.type = 'IN'))
+WHERE p.last_stock_in_at IS NULL;
+
+UPDATE pharmacies p
+SET last_settlement_at = COALESCE(
+  (SELECT MAX(b.created_at) FROM balance_txs b
+   WHERE b.pharmacy_id = p.pharmacy_id AND b.type = 'SETTLEMENT'),
+  (SELECT MAX(b.created_at) FROM balance_txs_archive b
+   WHERE b.pharmacy_id = p.pharmacy_id AND b.type = 'SETTLEMENT'))
+WHERE p.last_settlement_at IS NULL;
@@ -0,0 +1,17 @@
+-- 가맹점 잔액과 제품 재고의 일별 스냅샷입니다. 값은 그날 마지막 거래 이후의 잔량입니다.
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+  pharmacy_id BIGINT NOT NULL,
+  snapshot_date DATE NOT NULL,
+  balance_after DECIMAL(10,2) NOT NULL,
+  PRIMARY KEY (pharmacy_id, snapshot_date),
+  INDEX idx_balance_snapshots_date (snapshot_date)
+);
+
+CREATE TABLE IF NOT EXISTS stock_snapshots (
+  product_id BIGINT NOT NULL,
+  snapshot_date DATE NOT NULL,
+  quantity_after INT NOT NULL,
+  PRIMARY KEY (product_id, snapshot_date),
+  INDEX idx_stock_snapshots_date (snapshot_date)
+);
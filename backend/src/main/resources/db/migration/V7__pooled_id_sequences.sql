@@ -0,0 +1,26 @@
+-- IDENTITY에서 pooled 시퀀스로 전환한 테이블의 시퀀스 값을 기존 데이터의 최대 ID 이후로 맞춥니다.
+-- 시퀀스 테이블은 Hibernate 스키마 자동 생성이 만들지만, 이미 저장된 행이 있으면 새 ID와 충돌할 수 있습니다.
+-- pooled 옵티마이저는 읽은 값에서 (allocationSize - 1)을 뺀 값부터 할당하므로 allocationSize(50) + 1만큼 여유를 둡니다.
+
+CREATE TABLE IF NOT EXISTS order_items_seq (next_val BIGINT NOT NULL);
+CREATE TABLE IF NOT EXISTS return_items_seq (next_val BIGINT NOT NULL);
+CREATE TABLE IF NOT EXISTS stock_txs_seq (next_val BIGINT NOT NULL);
+CREATE TABLE IF NOT EXISTS balance_txs_seq (next_val BIGINT NOT NULL);
+CREATE TABLE IF NOT EXISTS chatbot_seq (next_val BIGINT NOT NULL);
+
+INSERT INTO order_items_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM order_items_seq);
+INSERT INTO return_items_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM return_items_seq);
+INSERT INTO stock_txs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM stock_txs_seq);
+INSERT INTO balance_txs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM balance_txs_seq);
+INSERT INTO chatbot_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM chatbot_seq);
+
+UPDATE order_items_seq SET next_val = GREATEST(next_val,
+  (SELECT COALESCE(MAX(order_item_id), 0) + 51 FROM order_items));
+UPDATE return_items_seq SET next_val = GREATEST(next_val,
+  (SELECT COALESCE(MAX(return_item_id), 0) + 51 FROM return_items));
+UPDATE stock_txs_seq SET next_val = GREATEST(next_val,
+  (SELECT COALESCE(MAX(stock_tx_id), 0) + 51 FROM stock_txs));
+UPDATE balance_txs_seq SET next_val = GREATEST(next_val,
+  (SELECT COALESCE(MAX(balance_tx_id), 0) + 51 FROM balance_txs));
+UPDATE chatbot_seq SET next_val = GREATEST(next_val,
+  (SELECT COALESCE(MAX(chatbot_id), 0) + 51 FROM chatbot));
@@ -0,0 +1,91 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.entity.BalanceTx;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.enums.BalanceTxType;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.service.ArchiveService;
+import com.yeahyak.backend.service.BalanceTxService;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 외상 한도 확인과 잔액 증가가 조건부 UPDATE 한 문장으로 끝나고, 거래 내역에 변경 후 잔액이 기록되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({JpaConfig.class, BalanceTxService.class})
+class BalanceTxCreditLimitTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private BalanceTxRepository balanceTxRepo;
+
+  @Autowired
+  private BalanceTxService balanceTxService;
+
+  @MockitoBean
+  private ArchiveService archiveService;
+
+  private Statistics stats;
+  private Pharmacy pharmacy;
+
+  @BeforeEach
+  void setUp() {
+    pharmacy = TestFixtures.pharmacy(em, Region.서울);
+    pharmacy.setCreditLimit(new BigDecimal("5000.00"));
+    pharmacy.setOutstandingBalance(new BigDecimal("1000.00"));
+    em.flush();
+    em.clear();
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    stats.clear();
+  }
+
+  @Test
+  void orderWithinLimitRecordsBalanceAfter() {
+    BigDecimal amount = new BigDecimal("3000.00");
+
+    balanceTxService.createBalanceTx(pharmacy.getPharmacyId(), BalanceTxType.ORDER, amount);
+    em.flush();
+
+    // 조건부 UPDATE, 변경 후 잔액 조회, INSERT, 그리고 pooled 시퀀스가 새 구간을 받을 때의 조회 한 번까지만 허용합니다.
+    assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+
+    em.clear();
+    List<BalanceTx> txs = balanceTxRepo.findAll();
+    assertThat(txs).singleElement().satisfies(tx -> {
+      assertThat(tx.getType()).isEqualTo(BalanceTxType.ORDER);
+      assertThat(tx.getAmount()).isEqualByComparingTo(amount);
+      assertThat(tx.getBalanceAfter()).isEqualByComparingTo("4000.00");
+      assertThat(tx.getCreatedAt()).isNotNull();
+    });
+  }
+
+  @Test
+  void orderOverLimitIsRejectedByAffectedRowCount() {
+    int updated = balanceTxRepo.increaseBalanceWithinLimit(
+        pharmacy.getPharmacyId(), new BigDecimal("4000.01"));
+
+    assertThat(updated).isZero();
+    assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    em.clear();
+    assertThat(em.find(Pharmacy.class, pharmacy.getPharmacyId()).getOutstandingBalance())
+        .isEqualByComparingTo("1000.00");
+  }
+}
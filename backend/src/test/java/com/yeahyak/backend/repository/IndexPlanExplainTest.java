@@ -0,0 +1,46 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.FlywayConfig;
+import com.yeahyak.backend.config.SchemaMigrationInitializer;
+import com.yeahyak.backend.support.IndexPlanCases;
+import com.yeahyak.backend.support.IndexPlanCases.IndexPlanCase;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 인덱스 마이그레이션(V1, V2)을 적용한 H2 스키마에서 조회 경로마다 기대한 인덱스를 고르는지 확인합니다. MySQL에서의 같은
+ * 검사는 {@link MySqlIndexPlanExplainTest}가 수행합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=true",
+    "spring.flyway.target=2"})
+@Import({FlywayConfig.class, SchemaMigrationInitializer.class})
+class IndexPlanExplainTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  static List<IndexPlanCase> cases() {
+    return IndexPlanCases.CASES;
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  void queryUsesPlannedIndex(IndexPlanCase planCase) {
+    String plan = String.join(" ",
+        jdbcTemplate.queryForList("EXPLAIN " + planCase.sql(), String.class));
+
+    assertThat(plan.toUpperCase(Locale.ROOT))
+        .as(plan)
+        .contains(planCase.index().toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,87 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.FlywayConfig;
+import com.yeahyak.backend.config.SchemaMigrationInitializer;
+import com.yeahyak.backend.support.IndexPlanCases;
+import com.yeahyak.backend.support.IndexPlanCases.IndexPlanCase;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL에 db/migration을 적용한 뒤 조회 경로마다 EXPLAIN으로 계획된 인덱스를 확인합니다. Docker가 없으면 건너뜁니다.
+ * <p>
+ * 테이블이 비어 있으면 옵티마이저가 실제로 고르는 인덱스(key)가 통계에 따라 달라지므로, 후보 인덱스(possible_keys)에 포함되는지를
+ * 검사합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=true"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({FlywayConfig.class, SchemaMigrationInitializer.class})
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlIndexPlanExplainTest {
+
+  private static final Pattern CREATE_INDEX =
+      Pattern.compile("CREATE INDEX ([a-z_]+) ON ([a-z_]+)");
+
+  @Container
+  @ServiceConnection
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  static List<IndexPlanCase> cases() {
+    return IndexPlanCases.CASES;
+  }
+
+  @Test
+  void migrationIsRecordedAndEveryIndexExists() throws IOException {
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM flyway_schema_history WHERE version = '1' AND success = 1",
+        Integer.class)).isEqualTo(1);
+
+    String script = new ClassPathResource("db/migration/V1__list_and_ledger_indexes.sql")
+        .getContentAsString(StandardCharsets.UTF_8);
+    Matcher matcher = CREATE_INDEX.matcher(script);
+    int checked = 0;
+    while (matcher.find()) {
+      Integer found = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM information_schema.statistics "
+              + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+          Integer.class, matcher.group(2), matcher.group(1));
+      assertThat(found).as(matcher.group(1)).isPositive();
+      checked++;
+    }
+    assertThat(checked).isGreaterThanOrEqualTo(IndexPlanCases.CASES.size());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  void queryCanUsePlannedIndex(IndexPlanCase planCase) {
+    List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + planCase.sql());
+
+    assertThat(plan).as(plan.toString()).anySatisfy(row -> assertThat(
+        String.valueOf(row.get("possible_keys"))).contains(planCase.index()));
+  }
+}
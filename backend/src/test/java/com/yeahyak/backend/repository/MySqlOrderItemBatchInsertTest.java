@@ -0,0 +1,89 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.FlywayConfig;
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.config.SchemaMigrationInitializer;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL에서 50개 품목 발주를 저장할 때 서버가 실제로 실행한 문장 수를 확인합니다. Docker가 없으면 건너뜁니다.
+ * <p>
+ * MySQL에는 시퀀스가 없어 pooled 시퀀스가 시퀀스 테이블 조회(FOR UPDATE)와 갱신 두 문장으로 한 구간을 받습니다. 문장 수는 Hibernate
+ * 통계 대신 performance_schema의 문장 요약에서 읽으므로, 드라이버가 배치를 multi-row INSERT 한 문장으로 재작성했는지도 함께
+ * 확인됩니다. 요약 테이블을 비우려면 root 권한이 필요합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=true"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({JpaConfig.class, FlywayConfig.class, SchemaMigrationInitializer.class})
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlOrderItemBatchInsertTest {
+
+  private static final int LINES = 50;
+
+  @Container
+  @ServiceConnection
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private OrderItemRepository orderItemRepo;
+
+  @Test
+  void fiftyLineOrderNeedsOneInsertAndAtMostTwoSequenceRoundTrips() {
+    Pharmacy pharmacy = TestFixtures.pharmacy(em, Region.서울);
+    List<Product> products = IntStream.range(0, LINES)
+        .mapToObj(i -> TestFixtures.product(em, 100))
+        .toList();
+    Orders orders = TestFixtures.order(em, pharmacy, OrderStatus.REQUESTED);
+    em.flush();
+    jdbcTemplate.execute("TRUNCATE TABLE performance_schema.events_statements_summary_by_digest");
+
+    orderItemRepo.saveAll(products.stream()
+        .map(product -> TestFixtures.orderItem(orders, product, 1))
+        .toList());
+    em.flush();
+
+    long inserts = countStatements("INSERT INTO `order_items` %");
+    long sequenceStatements = countStatements("% `order_items_seq` %");
+    assertThat(inserts).isEqualTo(1);
+    // 시퀀스 한 구간은 SELECT ... FOR UPDATE와 UPDATE 두 문장이며, 처음 받을 때만 두 구간을 받을 수 있습니다.
+    assertThat(sequenceStatements).isBetween(2L, 4L);
+    assertThat(sequenceStatements % 2).isZero();
+  }
+
+  private long countStatements(String digestPattern) {
+    Long count = jdbcTemplate.queryForObject(
+        "SELECT COALESCE(SUM(count_star), 0) FROM performance_schema.events_statements_summary_by_digest "
+            + "WHERE schema_name = DATABASE() AND digest_text LIKE ?",
+        Long.class, digestPattern);
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,311 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.FlywayConfig;
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.config.SchemaMigrationInitializer;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.repository.spec.OrderSpecs;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 합성 데이터로 본사 발주 목록의 필터 조합마다 Specification 조회와 기존 catch-all JPQL을 비교합니다.
+ * <p>
+ * 두 방식의 결과 건수가 메모리에서 직접 거른 건수와 같은지, Specification이 만든 SQL에 지정하지 않은 조건(IS NULL 분기)이 없는지
+ * 확인합니다. 조합별 H2 실행 계획(사용한 인덱스)과 건수 쿼리의 평균 지연 시간은 로그로 남깁니다. 지연 시간은 H2 기준이므로 비교용으로만
+ * 남기고 검증하지 않습니다.
+ * <p>
+ * 데이터가 많아 기본 test 작업에서는 제외되며, {@code gradle benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=true",
+    "spring.flyway.target=2",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({JpaConfig.class, FlywayConfig.class, SchemaMigrationInitializer.class})
+class OrderFilterBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderFilterBenchmarkTest.class);
+
+  private static final int ORDERS = 20_000;
+  private static final int PHARMACIES = 40;
+  private static final int RUNS = 5;
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  /**
+   * 필터를 Specification으로 옮기기 전의 본사 목록 건수 조회입니다.
+   */
+  private static final String CATCH_ALL_COUNT = """
+      SELECT COUNT(o) FROM Orders o
+      WHERE (:status IS NULL OR o.status = :status)
+      AND (:region IS NULL OR o.pharmacy.region = :region)
+      AND (:start IS NULL OR o.createdAt >= :start)
+      AND (:end IS NULL OR o.createdAt <= :end)
+      """;
+
+  /**
+   * 위 JPQL이 만드는 것과 같은 형태의 SQL입니다. 실행 계획을 비교하는 데 사용합니다.
+   */
+  private static final String CATCH_ALL_COUNT_SQL = """
+      SELECT COUNT(o.order_id) FROM orders o
+      JOIN pharmacies p ON p.pharmacy_id = o.pharmacy_id
+      WHERE (? IS NULL OR o.status = ?)
+      AND (? IS NULL OR p.region = ?)
+      AND (? IS NULL OR o.created_at >= ?)
+      AND (? IS NULL OR o.created_at <= ?)
+      """;
+
+  private static final Pattern PLAN_INDEX = Pattern.compile("/\\* PUBLIC\\.([A-Za-z0-9_.]+)");
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private OrderRepository orderRepo;
+
+  private Statistics stats;
+  private final List<Row> rows = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Region[] regions = {Region.서울, Region.경기, Region.부산, Region.제주특별자치도};
+    List<Pharmacy> pharmacies = IntStream.range(0, PHARMACIES)
+        .mapToObj(i -> TestFixtures.pharmacy(em, regions[i % regions.length]))
+        .toList();
+    em.flush();
+
+    // 상태는 REQUESTED/COMPLETED가 대부분이 되도록 치우치게 만들어, 선택도가 다른 조합이 섞이도록 합니다.
+    OrderStatus[] statuses = OrderStatus.values();
+    Random random = new Random(42);
+    List<Object[]> args = new ArrayList<>(ORDERS);
+    for (int i = 0; i < ORDERS; i++) {
+      Pharmacy pharmacy = pharmacies.get(random.nextInt(PHARMACIES));
+      OrderStatus status = random.nextInt(10) < 7
+          ? statuses[random.nextInt(2) == 0 ? 0 : 4]
+          : statuses[random.nextInt(statuses.length)];
+      LocalDateTime createdAt = BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+      rows.add(new Row(pharmacy.getRegion(), status, createdAt));
+      args.add(new Object[]{pharmacy.getPharmacyId(), status.name(), "1000.00",
+          Timestamp.valueOf(createdAt)});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO orders (pharmacy_id, status, total_price, created_at) VALUES (?, ?, ?, ?)",
+        args);
+
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void everyFilterCombinationMatchesCatchAllAndEmitsOnlySuppliedPredicates() {
+    OrderStatus status = OrderStatus.SHIPPING;
+    Region region = Region.부산;
+    LocalDateTime start = BASE.plusDays(100);
+    LocalDateTime end = BASE.plusDays(130);
+
+    log.info("[OrderFilterBenchmarkTest] {} orders, {} runs per query", ORDERS, RUNS);
+
+    Set<String> specPlans = new HashSet<>();
+    Set<String> catchAllPlans = new HashSet<>();
+    for (int mask = 0; mask < 16; mask++) {
+      OrderStatus s = (mask & 1) != 0 ? status : null;
+      Region r = (mask & 2) != 0 ? region : null;
+      LocalDateTime from = (mask & 4) != 0 ? start : null;
+      LocalDateTime to = (mask & 8) != 0 ? end : null;
+
+      long expected = rows.stream().filter(row -> row.matches(s, r, from, to)).count();
+
+      stats.clear();
+      Page<Orders> page = orderRepo.findAll(search(s, r, from, to),
+          PageRequest.of(0, 20, Sort.by(Direction.DESC, "createdAt")));
+      String[] sql = stats.getQueries();
+      assertThat(page.getTotalElements()).isEqualTo(expected);
+      assertThat(sql).noneMatch(q -> q.toLowerCase().contains(" is null"));
+      assertThat(Arrays.stream(sql).anyMatch(q -> q.contains("status=?"))).isEqualTo(s != null);
+      assertThat(Arrays.stream(sql).anyMatch(q -> q.contains("region=?"))).isEqualTo(r != null);
+
+      String specCountSql = Arrays.stream(sql)
+          .filter(q -> q.contains("count("))
+          .findFirst()
+          .orElseThrow()
+          .replace("[CRITERIA] ", "");
+      String specPlan = explain(specCountSql, suppliedArgs(s, r, from, to));
+      String catchAllPlan = explain(CATCH_ALL_COUNT_SQL, catchAllArgs(s, r, from, to));
+
+      specPlans.add(specPlan);
+      catchAllPlans.add(catchAllPlan);
+
+      long catchAllCount = catchAllCount(s, r, from, to);
+      assertThat(catchAllCount).isEqualTo(expected);
+
+      // 목록 조회의 건수 쿼리끼리 비교합니다. 건수 쿼리에는 가맹점 fetch join이 붙지 않습니다.
+      long specMicros = averageMicros(() -> orderRepo.count(search(s, r, from, to)));
+      long catchAllMicros = averageMicros(() -> catchAllCount(s, r, from, to));
+      log.info("[OrderFilterBenchmarkTest] {} rows={} specCount={}us catchAll={}us spec={} catchAll={}",
+          describe(s, r, from, to), expected, specMicros, catchAllMicros, specPlan, catchAllPlan);
+    }
+
+    // catch-all 쿼리는 어떤 조합이든 같은 계획 하나를 쓰고, 필요한 조건만 담은 쿼리는 조건에 맞는 인덱스를 고릅니다.
+    assertThat(catchAllPlans).hasSize(1);
+    assertThat(specPlans).hasSizeGreaterThan(catchAllPlans.size())
+        .contains("IDX_ORDERS_STATUS_CREATED", "IDX_ORDERS_CREATED");
+  }
+
+  /**
+   * OrderService의 본사 목록 조회와 같은 조건을 조립합니다.
+   */
+  private Specification<Orders> search(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    return Specification.allOf(
+        OrderSpecs.fetchPharmacy(),
+        OrderSpecs.status(status),
+        OrderSpecs.region(region),
+        OrderSpecs.createdFrom(start),
+        OrderSpecs.createdTo(end));
+  }
+
+  private long catchAllCount(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    return em.createQuery(CATCH_ALL_COUNT, Long.class)
+        .setParameter("status", status)
+        .setParameter("region", region)
+        .setParameter("start", start)
+        .setParameter("end", end)
+        .getSingleResult();
+  }
+
+  /**
+   * H2 실행 계획에서 orders 테이블을 읽는 데 쓴 인덱스 이름을 꺼냅니다.
+   */
+  private String explain(String sql, Object[] args) {
+    String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    Matcher matcher = PLAN_INDEX.matcher(plan);
+    List<String> indexes = new ArrayList<>();
+    while (matcher.find()) {
+      indexes.add(matcher.group(1));
+    }
+    // 지역 조건만 있으면 가맹점을 먼저 읽고 발주는 외래 키 인덱스로 찾으므로 모든 인덱스를 함께 보여 줍니다.
+    // 조건 없는 COUNT처럼 행을 읽지 않는 계획은 인덱스 주석이 없습니다.
+    return indexes.stream()
+        .filter(index -> index.startsWith("IDX_ORDERS") || index.startsWith("ORDERS"))
+        .findFirst()
+        .orElse(indexes.isEmpty() ? "(no scan)" : String.join(",", indexes));
+  }
+
+  private Object[] suppliedArgs(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    List<Object> args = new ArrayList<>();
+    if (status != null) {
+      args.add(status.name());
+    }
+    if (region != null) {
+      args.add(region.name());
+    }
+    if (start != null) {
+      args.add(Timestamp.valueOf(start));
+    }
+    if (end != null) {
+      args.add(Timestamp.valueOf(end));
+    }
+    return args.toArray();
+  }
+
+  private Object[] catchAllArgs(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    String s = status == null ? null : status.name();
+    String r = region == null ? null : region.name();
+    Timestamp from = start == null ? null : Timestamp.valueOf(start);
+    Timestamp to = end == null ? null : Timestamp.valueOf(end);
+    return new Object[]{s, s, r, r, from, from, to, to};
+  }
+
+  private long averageMicros(Runnable query) {
+    query.run(); // 준비 실행
+    long started = System.nanoTime();
+    for (int i = 0; i < RUNS; i++) {
+      query.run();
+      em.clear();
+    }
+    return (System.nanoTime() - started) / RUNS / 1_000;
+  }
+
+  private String describe(
+      OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+  ) {
+    List<String> parts = new ArrayList<>();
+    if (status != null) {
+      parts.add("status");
+    }
+    if (region != null) {
+      parts.add("region");
+    }
+    if (start != null) {
+      parts.add("start");
+    }
+    if (end != null) {
+      parts.add("end");
+    }
+    return parts.isEmpty() ? "(none)" : String.join("+", parts);
+  }
+
+  private static class Row {
+
+    private final Region region;
+    private final OrderStatus status;
+    private final LocalDateTime createdAt;
+
+    private Row(Region region, OrderStatus status, LocalDateTime createdAt) {
+      this.region = region;
+      this.status = status;
+      this.createdAt = createdAt;
+    }
+
+    private boolean matches(
+        OrderStatus status, Region region, LocalDateTime start, LocalDateTime end
+    ) {
+      return (status == null || this.status == status)
+          && (region == null || this.region == region)
+          && (start == null || !createdAt.isBefore(start))
+          && (end == null || !createdAt.isAfter(end));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.entity.OrderItem;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 50개 품목 발주를 저장할 때 준비되는 문장 수를 비교합니다. pooled 시퀀스를 쓰는 발주 품목은 배치 하나로 저장되고, IDENTITY를 쓰는
+ * 엔티티는 행마다 INSERT를 보냅니다.
+ * <p>
+ * H2는 네이티브 시퀀스를 쓰므로 시퀀스 조회가 한 문장입니다. MySQL의 테이블 방식 시퀀스 왕복은
+ * {@link MySqlOrderItemBatchInsertTest}에서 확인합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import(JpaConfig.class)
+class OrderItemBatchInsertTest {
+
+  private static final int LINES = 50;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private OrderItemRepository orderItemRepo;
+
+  private Statistics stats;
+  private Pharmacy pharmacy;
+  private List<Product> products;
+
+  @BeforeEach
+  void setUp() {
+    pharmacy = TestFixtures.pharmacy(em, Region.서울);
+    products = IntStream.range(0, LINES).mapToObj(i -> TestFixtures.product(em, 100)).toList();
+    em.flush();
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    stats.clear();
+  }
+
+  @Test
+  void fiftyLineOrderItemsAreInsertedAsOneBatch() {
+    Orders orders = TestFixtures.order(em, pharmacy, OrderStatus.REQUESTED);
+    em.flush();
+    stats.clear();
+
+    orderItemRepo.saveAll(products.stream()
+        .map(product -> TestFixtures.orderItem(orders, product, 1))
+        .toList());
+    em.flush();
+
+    assertThat(stats.getEntityInsertCount()).isEqualTo(LINES);
+    // 시퀀스 조회(새 구간을 받을 때 최대 2번)와 배치 INSERT 문 하나만 준비됩니다.
+    assertThat(stats.getPrepareStatementCount()).isBetween(1L, 3L);
+  }
+
+  @Test
+  void identityEntitiesNeedOneRoundTripPerRow() {
+    IntStream.range(0, LINES).forEach(i -> TestFixtures.order(em, pharmacy, OrderStatus.REQUESTED));
+    em.flush();
+
+    // IDENTITY는 INSERT 후 생성된 키를 바로 읽어야 하므로 배치가 꺼지고 행마다 문장을 보냅니다.
+    assertThat(stats.getEntityInsertCount()).isEqualTo(LINES);
+    assertThat(stats.getPrepareStatementCount()).isEqualTo(LINES);
+  }
+}
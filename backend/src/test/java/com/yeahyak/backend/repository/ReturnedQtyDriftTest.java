@@ -0,0 +1,89 @@
+package com.yeahyak.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.yeahyak.backend.entity.OrderItem;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.Returns;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.entity.enums.ReturnStatus;
+import com.yeahyak.backend.repository.OrderItemRepository.ReturnedQtyDriftProjection;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 같은 제품이 여러 줄로 발주된 경우에도 누적 반품 수량 검사가 (발주, 제품) 합계를 줄 순서대로 나눠 비교하는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class ReturnedQtyDriftTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private OrderItemRepository orderItemRepo;
+
+  private OrderItem first;
+  private OrderItem second;
+  private OrderItem single;
+
+  @BeforeEach
+  void setUp() {
+    Pharmacy pharmacy = TestFixtures.pharmacy(em, Region.서울);
+    Product duplicated = TestFixtures.product(em, 100);
+    Product other = TestFixtures.product(em, 100);
+    Orders orders = TestFixtures.order(em, pharmacy, OrderStatus.COMPLETED);
+    first = TestFixtures.orderItem(orders, duplicated, 5);
+    second = TestFixtures.orderItem(orders, duplicated, 5);
+    single = TestFixtures.orderItem(orders, other, 4);
+    em.persist(first);
+    em.persist(second);
+    em.persist(single);
+
+    // 취소되지 않은 반품 7개(5 + 2)와 단일 줄 제품 3개, 합계에서 빠져야 하는 취소 반품 3개
+    Returns requested = TestFixtures.returns(em, pharmacy, orders, ReturnStatus.REQUESTED);
+    em.persist(TestFixtures.returnItem(requested, duplicated, 7));
+    em.persist(TestFixtures.returnItem(requested, other, 3));
+    Returns canceled = TestFixtures.returns(em, pharmacy, orders, ReturnStatus.CANCELED);
+    em.persist(TestFixtures.returnItem(canceled, duplicated, 3));
+  }
+
+  @Test
+  void linesFilledInOrderHaveNoDrift() {
+    setReturnedQty(5, 2, 3);
+
+    assertThat(orderItemRepo.findReturnedQtyDrift()).isEmpty();
+  }
+
+  @Test
+  void perLineTotalsAreReportedAgainstAllocatedExpectation() {
+    // 줄마다 제품 합계를 그대로 적어 두던 이전 방식의 값입니다.
+    setReturnedQty(7, 7, 3);
+
+    List<ReturnedQtyDriftProjection> drift = orderItemRepo.findReturnedQtyDrift();
+
+    assertThat(drift).extracting(
+            ReturnedQtyDriftProjection::getOrderItemId,
+            ReturnedQtyDriftProjection::getReturnedQty,
+            ReturnedQtyDriftProjection::getExpectedQty)
+        .containsExactly(
+            tuple(first.getOrderItemId(), 7, 5),
+            tuple(second.getOrderItemId(), 7, 2));
+  }
+
+  private void setReturnedQty(int firstQty, int secondQty, int singleQty) {
+    first.setReturnedQty(firstQty);
+    second.setReturnedQty(secondQty);
+    single.setReturnedQty(singleQty);
+    em.flush();
+  }
+}
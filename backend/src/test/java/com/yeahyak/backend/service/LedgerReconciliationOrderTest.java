@@ -0,0 +1,70 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.dto.ReconciliationReport;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * pooled 시퀀스로 거래 ID 순서가 기록 순서와 달라도, 원장 검사가 생성 시각 순서로 잔량을 이어 비교하는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(LedgerReconciliationService.class)
+class LedgerReconciliationOrderTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private LedgerReconciliationService reconciliationService;
+
+  @Test
+  void chainFollowsCreatedAtWhenIdsAreOutOfOrder() {
+    Product product = TestFixtures.product(em, 30);
+    em.flush();
+    LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+    // 다른 서버가 더 큰 ID 구간을 먼저 받아 기록한 경우입니다: 입고(ID 120) 후 발주(ID 60)
+    insertStockTx(120L, product.getProductId(), "IN", 50, 50, base);
+    insertStockTx(60L, product.getProductId(), "ORDER", 20, 30, base.plusMinutes(1));
+
+    ReconciliationReport report = reconciliationService.reconcileEntity("stock",
+        product.getProductId());
+
+    assertThat(report.getScannedRows()).isEqualTo(2);
+    assertThat(report.getDriftCount()).isZero();
+  }
+
+  @Test
+  void headIsLatestByCreatedAtNotLargestId() {
+    Product product = TestFixtures.product(em, 30);
+    em.flush();
+    LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+    insertStockTx(60L, product.getProductId(), "IN", 50, 50, base);
+    insertStockTx(10L, product.getProductId(), "ORDER", 20, 30, base.plusMinutes(1));
+
+    ReconciliationReport report = reconciliationService.reconcileEntity("stock",
+        product.getProductId());
+
+    assertThat(report.getDriftCount()).isZero();
+  }
+
+  private void insertStockTx(long id, long productId, String type, int amount, int after,
+      LocalDateTime createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO stock_txs (stock_tx_id, product_id, type, amount, quantity_after, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)",
+        id, productId, type, amount, after, Timestamp.valueOf(createdAt));
+  }
+}
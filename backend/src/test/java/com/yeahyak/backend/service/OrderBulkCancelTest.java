@@ -0,0 +1,196 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.yeahyak.backend.dto.BulkUpdateResponse;
+import com.yeahyak.backend.dto.OrderBulkUpdateRequest;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발주 일괄 취소가 단건 취소와 같이 발주마다 잔액 거래 내역, 품목마다 재고 거래 내역을 남기는지와, 묶음이 실패하면 건별로 다시 처리하는지
+ * 확인합니다.
+ * <p>
+ * 묶음마다 트랜잭션을 따로 커밋해야 재시도 동작을 확인할 수 있으므로 테스트 트랜잭션을 쓰지 않고, 끝나면 만든 행을 지웁니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderService.class, BalanceTxService.class, StockTxService.class})
+class OrderBulkCancelTest {
+
+  private static final BigDecimal OUTSTANDING = new BigDecimal("10000.00");
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private OrderService orderService;
+
+  @MockitoSpyBean
+  private BalanceTxService balanceTxService;
+
+  @MockitoBean
+  private ArchiveService archiveService;
+
+  @MockitoBean
+  private StockAlertService stockAlertService;
+
+  @MockitoBean
+  private IdempotencyService idempotencyService;
+
+  private Long pharmacyA;
+  private Long pharmacyB;
+  private Long productP;
+  private Long productQ;
+  private Long order1;
+  private Long order2;
+  private Long order3;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate.executeWithoutResult(tx -> {
+      Pharmacy a = TestFixtures.pharmacy(em, Region.서울);
+      Pharmacy b = TestFixtures.pharmacy(em, Region.부산);
+      a.setOutstandingBalance(OUTSTANDING);
+      b.setOutstandingBalance(OUTSTANDING);
+      Product p = TestFixtures.product(em, 10);
+      Product q = TestFixtures.product(em, 10);
+
+      Orders o1 = order(a, "3000.00");
+      em.persist(TestFixtures.orderItem(o1, p, 3));
+      em.persist(TestFixtures.orderItem(o1, q, 1));
+      Orders o2 = order(a, "2000.00");
+      em.persist(TestFixtures.orderItem(o2, p, 2));
+      Orders o3 = order(b, "1000.00");
+      em.persist(TestFixtures.orderItem(o3, p, 1));
+      em.flush();
+
+      pharmacyA = a.getPharmacyId();
+      pharmacyB = b.getPharmacyId();
+      productP = p.getProductId();
+      productQ = q.getProductId();
+      order1 = o1.getOrderId();
+      order2 = o2.getOrderId();
+      order3 = o3.getOrderId();
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    for (String table : List.of("stock_txs", "balance_txs", "order_items", "orders", "products",
+        "pharmacies", "users")) {
+      jdbcTemplate.update("DELETE FROM " + table);
+    }
+  }
+
+  @Test
+  void bulkCancelKeepsOneLedgerRowPerOrderAndItem() {
+    BulkUpdateResponse res = orderService.updateOrderStatuses(
+        new OrderBulkUpdateRequest(List.of(order1, order2), OrderStatus.CANCELED));
+
+    assertThat(res.getSuccessCount()).isEqualTo(2);
+    // 잔액은 가맹점별로 한 번에 차감하지만, 거래 내역은 발주마다 남고 변경 후 잔액이 순서대로 이어집니다.
+    assertThat(jdbcTemplate.queryForList("SELECT amount, balance_after FROM balance_txs"
+        + " WHERE pharmacy_id = ? ORDER BY balance_after DESC", pharmacyA))
+        .extracting(row -> row.get("AMOUNT"), row -> row.get("BALANCE_AFTER"))
+        .containsExactly(
+            tuple(new BigDecimal("3000.00"), new BigDecimal("7000.00")),
+            tuple(new BigDecimal("2000.00"), new BigDecimal("5000.00")));
+    assertThat(balance(pharmacyA)).isEqualByComparingTo("5000.00");
+
+    // 재고도 품목마다 한 건씩 남고, 마지막 행의 변경 후 수량이 실제 재고와 같습니다.
+    List<Map<String, Object>> restocks = jdbcTemplate.queryForList(
+        "SELECT amount, quantity_after FROM stock_txs WHERE product_id = ? ORDER BY quantity_after",
+        productP);
+    assertThat(restocks).extracting(row -> row.get("AMOUNT")).containsExactlyInAnyOrder(3, 2);
+    assertThat(restocks.get(1).get("QUANTITY_AFTER")).isEqualTo(15);
+    assertThat(restocks.get(0).get("QUANTITY_AFTER"))
+        .isEqualTo(15 - (Integer) restocks.get(1).get("AMOUNT"));
+    assertThat(stockQty(productP)).isEqualTo(15);
+    assertThat(stockQty(productQ)).isEqualTo(11);
+  }
+
+  @Test
+  void failedChunkIsRetriedOrderByOrder() {
+    willThrow(new RuntimeException("잔액 반영 실패")).given(balanceTxService).createBalanceTxs(
+        argThat((List<Map.Entry<Long, BigDecimal>> refunds) -> refunds.stream()
+            .anyMatch(refund -> refund.getKey().equals(pharmacyB))),
+        any());
+
+    BulkUpdateResponse res = orderService.updateOrderStatuses(
+        new OrderBulkUpdateRequest(List.of(order1, order2, order3), OrderStatus.CANCELED));
+
+    assertThat(res.getResults())
+        .extracting(BulkUpdateResponse.Result::getId, BulkUpdateResponse.Result::isSuccess,
+            BulkUpdateResponse.Result::getMessage)
+        .containsExactly(
+            tuple(order1, true, null),
+            tuple(order2, true, null),
+            tuple(order3, false, "잔액 반영 실패"));
+
+    // 실패한 묶음은 모두 되돌려지고, 건별 재시도에서 성공한 발주만 반영됩니다.
+    assertThat(status(order1)).isEqualTo("CANCELED");
+    assertThat(status(order3)).isEqualTo("REQUESTED");
+    assertThat(count("balance_txs")).isEqualTo(2);
+    assertThat(count("stock_txs")).isEqualTo(3);
+    assertThat(balance(pharmacyA)).isEqualByComparingTo("5000.00");
+    assertThat(balance(pharmacyB)).isEqualByComparingTo(OUTSTANDING);
+    assertThat(stockQty(productP)).isEqualTo(15);
+  }
+
+  private Orders order(Pharmacy pharmacy, String totalPrice) {
+    Orders orders = TestFixtures.order(em, pharmacy, OrderStatus.REQUESTED);
+    orders.setTotalPrice(new BigDecimal(totalPrice));
+    return orders;
+  }
+
+  private BigDecimal balance(Long pharmacyId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT outstanding_balance FROM pharmacies WHERE pharmacy_id = ?", BigDecimal.class,
+        pharmacyId);
+  }
+
+  private Integer stockQty(Long productId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT stock_qty FROM products WHERE product_id = ?", Integer.class, productId);
+  }
+
+  private String status(Long orderId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT status FROM orders WHERE order_id = ?", String.class, orderId);
+  }
+
+  private Integer count(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+}
@@ -0,0 +1,67 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.dto.ProductDetailResponse;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 다른 서버에서 제품이 수정되어 이 서버의 기준 정보 캐시가 이전 값을 들고 있어도, 제품 상세 본문과 ETag가 같은 DB 값에서 만들어지는지
+ * 확인합니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({JpaConfig.class, ProductService.class, ProductCatalogCache.class})
+class ProductDetailETagTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ProductService productService;
+
+  @Autowired
+  private ProductCatalogCache productCatalogCache;
+
+  @MockitoBean
+  private StockTxService stockTxService;
+
+  @MockitoBean
+  private ProductSearchIndex productSearchIndex;
+
+  @Test
+  void detailBodyMatchesETagAfterEditOnAnotherInstance() {
+    Product product = TestFixtures.product(em, 100);
+    em.flush();
+    em.clear();
+    // 이 서버의 캐시에 수정 전 값을 올려 둡니다.
+    productCatalogCache.getAll(List.of(product.getProductId()));
+    em.clear();
+
+    // 다른 서버의 수정은 이 서버의 캐시를 비우지 않습니다.
+    jdbcTemplate.update(
+        "UPDATE products SET product_name = ?, updated_at = ? WHERE product_id = ?",
+        "수정된 제품", Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)),
+        product.getProductId());
+
+    ProductDetailResponse detail = productService.getProductById(product.getProductId());
+
+    assertThat(detail.getProductName()).isEqualTo("수정된 제품");
+    assertThat(productService.getProductETag(detail))
+        .isEqualTo(productService.getProductETag(product.getProductId()));
+  }
+}
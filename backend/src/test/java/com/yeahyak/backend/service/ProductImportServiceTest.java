@@ -0,0 +1,208 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.yeahyak.backend.dto.ProductImportResponse;
+import com.yeahyak.backend.dto.ProductImportResponse.RowError;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CSV/JSON Lines 제품 일괄 등록의 행 해석, 묶음 저장 실패 시 건별 재시도, 오류 목록 자르기를 확인합니다.
+ * <p>
+ * 묶음마다 트랜잭션을 따로 커밋해야 재시도 동작을 확인할 수 있으므로 테스트 트랜잭션을 쓰지 않고, 끝나면 저장한 제품을 지웁니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "product.import.max-errors=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import(ProductImportService.class)
+class ProductImportServiceTest {
+
+  private static final String CSV = "text/csv";
+  private static final String NDJSON = "application/x-ndjson";
+  private static final String HEADER =
+      "productName,insuranceCode,mainCategory,subCategory,manufacturer,unit,unitPrice,details,stockQty";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ProductImportService productImportService;
+
+  @MockitoBean
+  private StockTxService stockTxService;
+
+  @MockitoBean
+  private ProductCatalogCache productCatalogCache;
+
+  @MockitoBean
+  private ProductSearchIndex productSearchIndex;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM products");
+  }
+
+  @Test
+  void csvHandlesQuotesNewlinesBomAndCrlf() {
+    ProductImportResponse res = importCsv(
+        "\uFEFF" + HEADER,
+        "\"감기약, \"\"특\"\"\",INS-1,일반의약품,감기약,제조사,EA,1000,\"첫 줄",
+        "둘째 줄\",10",
+        row("두통약", "INS-2", "-1"));
+
+    assertThat(res.getTotalCount()).isEqualTo(2);
+    assertThat(res.getCreatedCount()).isEqualTo(1);
+    // 줄바꿈이 든 행이 2~3번째 줄을 차지하므로 다음 행은 4번째 줄입니다.
+    assertThat(res.getErrors()).extracting(RowError::getRowNumber, RowError::getInsuranceCode)
+        .containsExactly(tuple(4L, "INS-2"));
+
+    Map<String, Object> saved = product("INS-1");
+    assertThat(saved.get("product_name")).isEqualTo("감기약, \"특\"");
+    assertThat((String) saved.get("details")).startsWith("첫 줄").endsWith("둘째 줄");
+  }
+
+  @Test
+  void csvUnclosedQuoteStopsWithRowError() {
+    ProductImportResponse res = importCsv(
+        HEADER,
+        row("감기약", "INS-1", "1000"),
+        "\"두통약,INS-2,일반의약품,감기약,제조사,EA,1000,,10",
+        row("소화제", "INS-3", "1000"));
+
+    assertThat(res.getCreatedCount()).isEqualTo(1);
+    assertThat(res.getErrors()).extracting(RowError::getRowNumber, RowError::getMessage)
+        .containsExactly(tuple(3L, "따옴표가 닫히지 않았습니다."));
+  }
+
+  @Test
+  void csvOverLengthRowStopsReading() {
+    ProductImportResponse res = importCsv(
+        HEADER,
+        row("감기약", "INS-1", "1000"),
+        "x".repeat(5_000_001),
+        row("소화제", "INS-3", "1000"));
+
+    assertThat(res.getTotalCount()).isEqualTo(2);
+    assertThat(res.getCreatedCount()).isEqualTo(1);
+    assertThat(res.getErrors()).extracting(RowError::getRowNumber, RowError::getMessage)
+        .containsExactly(tuple(3L, "행이 너무 깁니다. 이후 행은 읽지 않았습니다."));
+  }
+
+  @Test
+  void csvColumnCountMismatchFailsOnlyThatRow() {
+    ProductImportResponse res = importCsv(
+        HEADER,
+        "감기약,INS-1,일반의약품,감기약,제조사,EA,1000",
+        row("소화제", "INS-2", "1000"));
+
+    assertThat(res.getCreatedCount()).isEqualTo(1);
+    assertThat(res.getErrors()).extracting(RowError::getRowNumber, RowError::getMessage)
+        .containsExactly(tuple(2L, "열 개수가 머리글과 다릅니다."));
+  }
+
+  @Test
+  void duplicateInsuranceCodeInOneChunkKeepsLastRow() {
+    ProductImportResponse res = importCsv(
+        HEADER,
+        row("감기약", "INS-1", "1000"),
+        row("감기약 개정", "INS-1", "1200"));
+
+    assertThat(res.getCreatedCount()).isEqualTo(1);
+    assertThat(res.getUpdatedCount()).isEqualTo(1);
+    assertThat(res.getFailureCount()).isZero();
+    assertThat(product("INS-1").get("product_name")).isEqualTo("감기약 개정");
+  }
+
+  @Test
+  void failedChunkIsRetriedRowByRow() {
+    willThrow(new RuntimeException("색인 실패")).given(productSearchIndex)
+        .index(argThat(product -> "INS-2".equals(product.getInsuranceCode())));
+
+    ProductImportResponse res = importCsv(
+        HEADER,
+        row("감기약", "INS-1", "1000"),
+        row("두통약", "INS-2", "1000"),
+        row("소화제", "INS-3", "1000"));
+
+    assertThat(res.getCreatedCount()).isEqualTo(2);
+    assertThat(res.getErrors())
+        .extracting(RowError::getRowNumber, RowError::getInsuranceCode, RowError::getMessage)
+        .containsExactly(tuple(3L, "INS-2", "색인 실패"));
+    assertThat(jdbcTemplate.queryForList("SELECT insurance_code FROM products ORDER BY 1",
+        String.class)).containsExactly("INS-1", "INS-3");
+  }
+
+  @Test
+  void errorListIsTruncatedAtMaxErrors() {
+    ProductImportResponse res = importCsv(
+        HEADER,
+        row("감기약", "INS-1", "-1"),
+        row("두통약", "INS-2", "-1"),
+        row("소화제", "INS-3", "-1"));
+
+    assertThat(res.getFailureCount()).isEqualTo(3);
+    assertThat(res.getErrors()).extracting(RowError::getInsuranceCode)
+        .containsExactly("INS-1", "INS-2");
+    assertThat(res.isErrorsTruncated()).isTrue();
+  }
+
+  @Test
+  void jsonLinesReadsEachLineAndReportsBadOnes() {
+    ProductImportResponse res = importBody(NDJSON, String.join("\r\n",
+        "\uFEFF" + json("감기약", "INS-1", "1000"),
+        "",
+        json("두통약", "INS-2", "\"abc\""),
+        "{\"productName\": \"" + "x".repeat(5_000_001) + "\"}",
+        json("소화제", "INS-3", "1000")));
+
+    assertThat(res.getTotalCount()).isEqualTo(4);
+    assertThat(res.getCreatedCount()).isEqualTo(2);
+    assertThat(res.getErrors()).extracting(RowError::getRowNumber, RowError::getMessage)
+        .containsExactly(
+            tuple(3L, "unitPrice: 값의 형식이 올바르지 않습니다."),
+            tuple(4L, "행이 너무 깁니다."));
+  }
+
+  private ProductImportResponse importCsv(String... lines) {
+    return importBody(CSV, String.join("\r\n", lines) + "\r\n");
+  }
+
+  private ProductImportResponse importBody(String contentType, String body) {
+    return productImportService.importProducts(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType);
+  }
+
+  private Map<String, Object> product(String insuranceCode) {
+    return jdbcTemplate.queryForMap(
+        "SELECT product_name, details FROM products WHERE insurance_code = ?", insuranceCode);
+  }
+
+  private static String row(String name, String insuranceCode, String unitPrice) {
+    return name + "," + insuranceCode + ",일반의약품,감기약,제조사,EA," + unitPrice + ",,10";
+  }
+
+  private static String json(String name, String insuranceCode, String unitPrice) {
+    return "{\"productName\": \"" + name + "\", \"insuranceCode\": \"" + insuranceCode + "\","
+        + " \"mainCategory\": \"일반의약품\", \"subCategory\": \"감기약\", \"manufacturer\": \"제조사\","
+        + " \"unit\": \"EA\", \"unitPrice\": " + unitPrice + ", \"stockQty\": 10}";
+  }
+}
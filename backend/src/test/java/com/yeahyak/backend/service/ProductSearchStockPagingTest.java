@@ -0,0 +1,92 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.dto.ProductListResponse;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 검색 결과 목록이 관련도순 후보 전체의 재고를 한 번에 읽지 않고, 요청한 페이지를 채우는 구간의 재고만 읽은 뒤 나머지 구간은 건수만
+ * 세는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({JpaConfig.class, ProductService.class, ProductCatalogCache.class})
+class ProductSearchStockPagingTest {
+
+  private static final int PRODUCTS = 1200;
+  private static final int THRESHOLD = 100;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private ProductService productService;
+
+  @MockitoBean
+  private StockTxService stockTxService;
+
+  @MockitoBean
+  private ProductSearchIndex productSearchIndex;
+
+  private Statistics stats;
+  private List<Long> matchedInRankOrder;
+
+  @BeforeEach
+  void setUp() {
+    // 짝수 번째 제품만 재고가 기준 수량 이하입니다.
+    List<Product> products = IntStream.range(0, PRODUCTS)
+        .mapToObj(i -> TestFixtures.product(em, i % 2 == 0 ? 50 : 500))
+        .toList();
+    em.flush();
+    em.clear();
+
+    List<Long> ranked = new ArrayList<>(products.stream().map(Product::getProductId).toList());
+    Collections.reverse(ranked);
+    matchedInRankOrder = ranked.stream()
+        .filter(id -> products.stream()
+            .anyMatch(p -> p.getProductId().equals(id) && p.getStockQty() <= THRESHOLD))
+        .toList();
+    given(productSearchIndex.search(anyString(), any(), any())).willReturn(ranked);
+
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    stats.clear();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 14})
+  void readsStockOnlyForChunksThatFillThePage(int page) {
+    int size = 20;
+    Page<ProductListResponse> result = productService.getProducts(
+        null, null, "제품", THRESHOLD, page, size);
+
+    assertThat(result.getTotalElements()).isEqualTo(matchedInRankOrder.size());
+    assertThat(result.getContent()).extracting(ProductListResponse::getProductId)
+        .containsExactlyElementsOf(matchedInRankOrder.subList(page * size, (page + 1) * size));
+    assertThat(result.getContent()).allSatisfy(p -> assertThat(p.getStockQty()).isEqualTo(50));
+
+    // 후보 1200개 = 500개씩 3구간: 페이지를 채우는 구간의 재고 조회, 나머지 구간의 건수 조회, 기준 정보 캐시 적재 1회
+    assertThat(stats.getPrepareStatementCount()).as("page=%d", page).isEqualTo(4);
+  }
+}
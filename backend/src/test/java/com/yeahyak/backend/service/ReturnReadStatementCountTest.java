@@ -0,0 +1,135 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yeahyak.backend.config.JpaConfig;
+import com.yeahyak.backend.dto.ReturnDetailResponse;
+import com.yeahyak.backend.dto.ReturnListResponse;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.Returns;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.entity.enums.ReturnStatus;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 반품 목록/상세 조회가 페이지 크기와 관계없이 정해진 개수의 SQL만 보내는지 확인합니다. 가맹점은 fetch join으로, 반품 품목과 제품은
+ * 페이지 단위 IN 조회 한 번으로 읽어야 합니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({JpaConfig.class, ReturnService.class})
+class ReturnReadStatementCountTest {
+
+  private static final int RETURNS = 30;
+  private static final int ITEMS_PER_RETURN = 3;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private ReturnService returnService;
+
+  @MockitoBean
+  private BalanceTxService balanceTxService;
+
+  @MockitoBean
+  private StockTxService stockTxService;
+
+  @MockitoBean
+  private IdempotencyService idempotencyService;
+
+  private Statistics stats;
+  private Pharmacy pharmacy;
+  private Long returnId;
+
+  @BeforeEach
+  void setUp() {
+    List<Product> products = IntStream.range(0, ITEMS_PER_RETURN)
+        .mapToObj(i -> TestFixtures.product(em, 100))
+        .toList();
+    List<Pharmacy> pharmacies = List.of(
+        TestFixtures.pharmacy(em, Region.서울), TestFixtures.pharmacy(em, Region.부산));
+    pharmacy = pharmacies.get(0);
+
+    for (Pharmacy p : pharmacies) {
+      Orders orders = TestFixtures.order(em, p, OrderStatus.COMPLETED);
+      for (int i = 0; i < RETURNS; i++) {
+        Returns returns = TestFixtures.returns(em, p, orders, ReturnStatus.REQUESTED);
+        for (Product product : products) {
+          em.persist(TestFixtures.returnItem(returns, product, 1));
+        }
+        returnId = returns.getReturnId();
+      }
+    }
+    em.flush();
+    em.clear();
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    stats.clear();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 20})
+  void hqListUsesPageCountAndOneItemQuery(int size) {
+    Page<ReturnListResponse> page = returnService.getReturns(null, null, null, null, 0, size);
+
+    assertThat(page.getContent()).hasSize(size)
+        .allSatisfy(r -> assertThat(r.getSummary()).endsWith("외 2개"));
+    // 목록(가맹점 fetch join), 전체 건수, 반품 품목 + 제품 IN 조회
+    assertStatements("getReturns size=" + size, 3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 20})
+  void hqCursorListSkipsCount(int size) {
+    Slice<ReturnListResponse> slice = returnService.getReturnsByCursor(
+        null, null, null, null, null, size);
+
+    assertThat(slice.getContent()).hasSize(size);
+    assertStatements("getReturnsByCursor size=" + size, 2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 20})
+  void pharmacyListUsesPageCountAndOneItemQuery(int size) {
+    Page<ReturnListResponse> page = returnService.getReturnsByPharmacy(
+        pharmacy.getPharmacyId(), null, 0, size);
+
+    assertThat(page.getContent()).hasSize(size)
+        .allSatisfy(r -> assertThat(r.getPharmacyName()).isEqualTo(pharmacy.getPharmacyName()));
+    assertStatements("getReturnsByPharmacy size=" + size, 3);
+  }
+
+  @Test
+  void detailLoadsReturnAndItemsInTwoQueries() {
+    ReturnDetailResponse detail = returnService.getReturnById(returnId);
+
+    assertThat(detail.getItems()).hasSize(ITEMS_PER_RETURN);
+    // 반품(가맹점 fetch join), 반품 품목 + 제품
+    assertStatements("getReturnById", 2);
+  }
+
+  private void assertStatements(String label, long expected) {
+    assertThat(stats.getPrepareStatementCount())
+        .as("%s %s", label, List.of(stats.getQueries()))
+        .isEqualTo(expected);
+  }
+}
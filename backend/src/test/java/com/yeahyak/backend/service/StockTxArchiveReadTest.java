@@ -0,0 +1,129 @@
+package com.yeahyak.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.yeahyak.backend.dto.Cursor;
+import com.yeahyak.backend.dto.StockTxDetailResponse;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 보관된 재고 거래 내역이 있어도 최근 페이지는 원본 테이블에서만 읽고, 보관 기준 시각 이전에 닿는 페이지에서만 보관 테이블을 함께 읽는지
+ * 확인합니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({StockTxService.class, ArchiveService.class})
+class StockTxArchiveReadTest {
+
+  private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+  private static final int LIVE = 30;
+  private static final int ARCHIVED = 20;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private StockTxService stockTxService;
+
+  @MockitoSpyBean
+  private ArchiveService archiveService;
+
+  @MockitoBean
+  private StockAlertService stockAlertService;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    // 운영에서는 db/migration(V4)이 만드는 테이블입니다.
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS archive_state (table_name VARCHAR(64) PRIMARY KEY,"
+        + " archived_before TIMESTAMP(6), updated_at TIMESTAMP(6))");
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS stock_txs_archive AS SELECT * FROM stock_txs WITH NO DATA");
+    jdbcTemplate.update(
+        "INSERT INTO archive_state (table_name, archived_before, updated_at) VALUES (?, ?, ?)",
+        "stock_txs", Timestamp.valueOf(CUTOFF), Timestamp.valueOf(CUTOFF));
+
+    Product product = TestFixtures.product(em, 0);
+    em.flush();
+    productId = product.getProductId();
+    for (int i = 0; i < LIVE; i++) {
+      insert("stock_txs", 1_000L + i, CUTOFF.plusDays(1 + i));
+    }
+    for (int i = 0; i < ARCHIVED; i++) {
+      insert("stock_txs_archive", 100L + i, CUTOFF.minusDays(1 + i));
+    }
+  }
+
+  @Test
+  void recentPageIsServedFromLiveTable() {
+    Page<StockTxDetailResponse> page = stockTxService.searchStockTxByProductId(productId, 0, 10);
+
+    assertThat(page.getContent()).extracting(StockTxDetailResponse::getStockTxId)
+        .startsWith(1_029L)
+        .allMatch(id -> id >= 1_000L);
+    assertThat(page.getTotalElements()).isEqualTo(LIVE + ARCHIVED);
+    verify(archiveService, never()).getStockTxs(anyLong(), anyInt(), anyInt());
+  }
+
+  @Test
+  void pageReachingCutoffFallsThroughToArchive() {
+    Page<StockTxDetailResponse> page = stockTxService.searchStockTxByProductId(productId, 2, 15);
+
+    assertThat(page.getContent()).extracting(StockTxDetailResponse::getStockTxId)
+        .containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L, 110L,
+            111L, 112L, 113L, 114L);
+    assertThat(page.getTotalElements()).isEqualTo(LIVE + ARCHIVED);
+  }
+
+  @Test
+  void cursorBeforeCutoffReadsArchiveAndLiveCursorDoesNot() {
+    Slice<StockTxDetailResponse> first = stockTxService.searchStockTxByProductIdAndCursor(
+        productId, null, 10);
+    assertThat(first.hasNext()).isTrue();
+    verify(archiveService, never()).getStockTxsByCursor(anyLong(), any(), anyInt());
+
+    Slice<StockTxDetailResponse> archived = stockTxService.searchStockTxByProductIdAndCursor(
+        productId, new Cursor(CUTOFF.minusDays(5), 104L), 10);
+    assertThat(archived.getContent()).extracting(StockTxDetailResponse::getStockTxId)
+        .startsWith(105L, 106L);
+    assertThat(archived.hasNext()).isTrue();
+  }
+
+  @Test
+  void archiveStateIsReadOncePerTtl() {
+    assertThat(archiveService.archivedBefore("stock_txs")).isEqualTo(CUTOFF);
+    jdbcTemplate.update("DELETE FROM archive_state");
+
+    assertThat(archiveService.archivedBefore("stock_txs")).isEqualTo(CUTOFF);
+  }
+
+  private void insert(String table, long id, LocalDateTime createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO " + table
+            + " (stock_tx_id, product_id, type, amount, quantity_after, created_at)"
+            + " VALUES (?, ?, 'IN', 1, 1, ?)",
+        id, productId, Timestamp.valueOf(createdAt));
+  }
+}
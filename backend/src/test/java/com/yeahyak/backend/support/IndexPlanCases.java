@@ -0,0 +1,93 @@
+package com.yeahyak.backend.support;
+
+import java.util.List;
+
+/**
+ * 저장소 조회 경로마다 실행 계획에서 사용되어야 하는 인덱스입니다. H2와 MySQL 실행 계획 테스트가 함께 사용합니다.
+ */
+public final class IndexPlanCases {
+
+  public static final List<IndexPlanCase> CASES = List.of(
+      new IndexPlanCase("가맹점 발주 목록", "idx_orders_pharmacy_created",
+          "SELECT order_id FROM orders WHERE pharmacy_id = 1 ORDER BY created_at DESC"),
+      new IndexPlanCase("가맹점 발주 목록(상태)", "idx_orders_pharmacy_status_created",
+          "SELECT order_id FROM orders WHERE pharmacy_id = 1 AND status = 'REQUESTED' "
+              + "ORDER BY created_at DESC"),
+      new IndexPlanCase("본사 발주 목록(상태/기간)", "idx_orders_status_created",
+          "SELECT order_id FROM orders WHERE status = 'REQUESTED' "
+              + "AND created_at >= TIMESTAMP '2025-01-01 00:00:00' ORDER BY created_at DESC"),
+      new IndexPlanCase("본사 발주 keyset 목록", "idx_orders_created",
+          "SELECT order_id FROM orders WHERE created_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY created_at DESC, order_id DESC"),
+      new IndexPlanCase("발주 품목", "idx_order_items_order_product",
+          "SELECT order_item_id FROM order_items WHERE order_id IN (1, 2) AND product_id = 1"),
+      new IndexPlanCase("발주별 반품 상태", "idx_returns_order_status",
+          "SELECT return_id FROM returns WHERE order_id = 1 AND status = 'COMPLETED'"),
+      new IndexPlanCase("반품 품목", "idx_return_items_return_product",
+          "SELECT return_item_id FROM return_items WHERE return_id IN (1, 2) AND product_id = 1"),
+      new IndexPlanCase("제품별 재고 거래(유형/기간)", "idx_stock_txs_product_type_created",
+          "SELECT stock_tx_id FROM stock_txs WHERE product_id = 1 AND type = 'IN' "
+              + "AND created_at >= TIMESTAMP '2025-01-01 00:00:00'"),
+      new IndexPlanCase("제품별 재고 거래 keyset", "idx_stock_txs_product_created",
+          "SELECT stock_tx_id FROM stock_txs WHERE product_id = 1 "
+              + "AND created_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY created_at DESC, stock_tx_id DESC"),
+      new IndexPlanCase("가맹점별 잔액 거래(유형/기간)", "idx_balance_txs_pharmacy_type_created",
+          "SELECT balance_tx_id FROM balance_txs WHERE pharmacy_id = 1 AND type = 'ORDER' "
+              + "AND created_at >= TIMESTAMP '2025-01-01 00:00:00'"),
+      new IndexPlanCase("가맹점별 잔액 거래 keyset", "idx_balance_txs_pharmacy_created",
+          "SELECT balance_tx_id FROM balance_txs WHERE pharmacy_id = 1 "
+              + "AND created_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY created_at DESC, balance_tx_id DESC"),
+      new IndexPlanCase("재고 거래 보관 대상", "idx_stock_txs_created",
+          "SELECT stock_tx_id FROM stock_txs WHERE created_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY created_at, stock_tx_id LIMIT 1000"),
+      new IndexPlanCase("잔액 거래 보관 대상", "idx_balance_txs_created",
+          "SELECT balance_tx_id FROM balance_txs WHERE created_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY created_at, balance_tx_id LIMIT 1000"),
+      new IndexPlanCase("챗봇 대화 보관 대상", "idx_chatbot_asked",
+          "SELECT chatbot_id FROM chatbot WHERE asked_at < TIMESTAMP '2025-01-01 00:00:00' "
+              + "ORDER BY asked_at, chatbot_id LIMIT 1000"),
+      new IndexPlanCase("분류별 제품 목록", "idx_products_category_created",
+          "SELECT product_id FROM products WHERE main_category = '일반의약품' "
+              + "AND sub_category = '감기약' ORDER BY created_at DESC"),
+      new IndexPlanCase("지역별 가맹점", "idx_pharmacies_region",
+          "SELECT pharmacy_id FROM pharmacies WHERE region = '서울'"),
+      new IndexPlanCase("가맹 신청 목록", "idx_pharmacy_requests_status_requested",
+          "SELECT pharmacy_request_id FROM pharmacy_requests WHERE status = 'PENDING' "
+              + "ORDER BY requested_at DESC")
+  );
+
+  private IndexPlanCases() {
+  }
+
+  public static class IndexPlanCase {
+
+    private final String name;
+    private final String index;
+    private final String sql;
+
+    private IndexPlanCase(String name, String index, String sql) {
+      this.name = name;
+      this.index = index;
+      this.sql = sql;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public String index() {
+      return index;
+    }
+
+    public String sql() {
+      return sql;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
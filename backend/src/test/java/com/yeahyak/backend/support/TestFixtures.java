@@ -0,0 +1,116 @@
+package com.yeahyak.backend.support;
+
+import com.yeahyak.backend.entity.OrderItem;
+import com.yeahyak.backend.entity.Orders;
+import com.yeahyak.backend.entity.Pharmacy;
+import com.yeahyak.backend.entity.Product;
+import com.yeahyak.backend.entity.ReturnItem;
+import com.yeahyak.backend.entity.Returns;
+import com.yeahyak.backend.entity.User;
+import com.yeahyak.backend.entity.enums.MainCategory;
+import com.yeahyak.backend.entity.enums.OrderStatus;
+import com.yeahyak.backend.entity.enums.Region;
+import com.yeahyak.backend.entity.enums.ReturnStatus;
+import com.yeahyak.backend.entity.enums.SubCategory;
+import com.yeahyak.backend.entity.enums.UserRole;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 저장소 테스트에서 필요한 최소 필드만 채운 엔티티를 만들어 저장합니다.
+ */
+public final class TestFixtures {
+
+  private static final AtomicInteger SEQ = new AtomicInteger();
+
+  private TestFixtures() {
+  }
+
+  public static Pharmacy pharmacy(EntityManager em, Region region) {
+    int n = SEQ.incrementAndGet();
+    User user = User.builder()
+        .email("pharmacy" + n + "@test.com")
+        .password("password")
+        .role(UserRole.PHARMACY)
+        .build();
+    em.persist(user);
+    Pharmacy pharmacy = Pharmacy.builder()
+        .user(user)
+        .pharmacyName("약국" + n)
+        .bizRegNo("BIZ-" + n)
+        .representativeName("대표" + n)
+        .postcode("00000")
+        .address("주소")
+        .region(region)
+        .contact("010-0000-0000")
+        .outstandingBalance(BigDecimal.ZERO)
+        .creditLimit(new BigDecimal("10000000.00"))
+        .build();
+    em.persist(pharmacy);
+    return pharmacy;
+  }
+
+  public static Product product(EntityManager em, int stockQty) {
+    int n = SEQ.incrementAndGet();
+    Product product = Product.builder()
+        .productName("제품" + n)
+        .insuranceCode("INS-" + n)
+        .mainCategory(MainCategory.일반의약품)
+        .subCategory(SubCategory.감기약)
+        .manufacturer("제조사")
+        .unit("EA")
+        .unitPrice(new BigDecimal("1000.00"))
+        .stockQty(stockQty)
+        .build();
+    em.persist(product);
+    return product;
+  }
+
+  public static Orders order(EntityManager em, Pharmacy pharmacy, OrderStatus status) {
+    Orders orders = Orders.builder()
+        .pharmacy(pharmacy)
+        .status(status)
+        .totalPrice(BigDecimal.ZERO)
+        .build();
+    em.persist(orders);
+    return orders;
+  }
+
+  public static OrderItem orderItem(Orders orders, Product product, int quantity) {
+    BigDecimal subtotal = product.getUnitPrice().multiply(BigDecimal.valueOf(quantity));
+    return OrderItem.builder()
+        .orders(orders)
+        .product(product)
+        .quantity(quantity)
+        .unitPrice(product.getUnitPrice())
+        .subtotalPrice(subtotal)
+        .returnedQty(0)
+        .build();
+  }
+
+  public static Returns returns(
+      EntityManager em, Pharmacy pharmacy, Orders orders, ReturnStatus status
+  ) {
+    Returns returns = Returns.builder()
+        .pharmacy(pharmacy)
+        .orders(orders)
+        .status(status)
+        .reason("파손")
+        .totalPrice(BigDecimal.ZERO)
+        .build();
+    em.persist(returns);
+    return returns;
+  }
+
+  public static ReturnItem returnItem(Returns returns, Product product, int quantity) {
+    BigDecimal subtotal = product.getUnitPrice().multiply(BigDecimal.valueOf(quantity));
+    return ReturnItem.builder()
+        .returns(returns)
+        .product(product)
+        .quantity(quantity)
+        .unitPrice(product.getUnitPrice())
+        .subtotalPrice(subtotal)
+        .build();
+  }
+}
@@ -189,10 +189,20 @@ export default function ReturnRequestPage() {
     if (!orderDetail) setOrderItems([]);
   }, [orderDetail]);
 
+  // 같은 제품이 여러 줄로 주문된 경우 줄마다 남은 수량을 합칩니다.
+  const getReturnableQuantity = (productId: number) =>
+    orderItems
+      .filter((item) => item.productId === productId)
+      .reduce((sum, item) => sum + Math.max(0, item.quantity - (item.returnedQty ?? 0)), 0);
+
+  const returnableProducts = orderItems.filter(
+    (item, idx) => orderItems.findIndex((i) => i.productId === item.productId) === idx,
+  );
+
   const handleItemChange = (productId: number) => {
     const selectedItem = orderItems.find((item) => item.productId === productId);
     if (selectedItem) {
-      setMaxQuantity(selectedItem.quantity);
+      setMaxQuantity(getReturnableQuantity(productId));
       form.setFieldsValue({
         productName: selectedItem.productName,
         quantity: undefined,
@@ -448,14 +458,14 @@ export default function ReturnRequestPage() {
                 placeholder="제품 선택"
                 onChange={handleItemChange}
                 disabled={!selectedOrder || orderItemsLoading}
-                options={
-                  orderItems.length > 0
-                    ? orderItems.map((item) => ({
-                        value: item.productId,
-                        label: item.productName,
-                      }))
-                    : []
-                }
+                options={returnableProducts.map((item) => {
+                  const returnable = getReturnableQuantity(item.productId);
+                  return {
+                    value: item.productId,
+                    label: `${item.productName} (반품 가능 ${returnable}개)`,
+                    disabled: returnable === 0,
+                  };
+                })}
               />
             </Form.Item>
             <Form.Item
@@ -474,7 +484,7 @@ export default function ReturnRequestPage() {
                       ? Promise.resolve()
                       : Promise.reject(
                           new Error(
-                            `반품 수량은 주문 수량(${maxQuantity}개)을 초과할 수 없습니다.`,
+                            `반품 수량은 반품 가능 수량(${maxQuantity}개)을 초과할 수 없습니다.`,
                           ),
                         );
                   },
@@ -486,7 +496,7 @@ export default function ReturnRequestPage() {
                 min={1}
                 max={maxQuantity}
                 style={{ width: '100%' }}
-                placeholder={`주문 수량: ${maxQuantity}개`}
+                placeholder={`반품 가능: ${maxQuantity}개`}
               />
             </Form.Item>
             <Form.Item name="unit" label="단위" style={{ width: '180px' }}>
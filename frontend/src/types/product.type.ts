@@ -60,6 +60,7 @@ export interface ProductDetail {
   details?: string;
   productImgUrl?: string;
   createdAt: string;
+  updatedAt?: string;
   stockQty: number;
 }
 